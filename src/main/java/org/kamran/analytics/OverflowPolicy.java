@@ -0,0 +1,19 @@
+package org.kamran.analytics;
+
+/**
+ * {@code OverflowPolicy} decides what happens to a {@link RoundEvent} published while a
+ * subscriber's buffer is full.
+ *
+ * @see RoundEventPublisher
+ */
+public enum OverflowPolicy {
+    /**
+     * Keeps the buffered events and drops the new one.
+     */
+    DROP_NEWEST,
+    /**
+     * Drops the oldest buffered events to make room, so the subscriber always sees the latest
+     * rounds.
+     */
+    LATEST_ONLY
+}
@@ -0,0 +1,24 @@
+package org.kamran.analytics;
+
+/**
+ * {@code RoundEvent} is the outcome of a single auction round as seen by our bidder.
+ *
+ * @param round                1-based round number within the auction
+ * @param ownBid               our bid
+ * @param opponentBid          the opponent's bid
+ * @param ownQuantityWon       quantity we won this round
+ * @param opponentQuantityWon  quantity the opponent won this round
+ * @param ownCash              our cash after the round
+ * @param opponentCash         the opponent's cash after the round
+ * @param strategyName         name of the strategy that produced our bid
+ * @see RoundEventPublisher
+ */
+public record RoundEvent(int round,
+                         int ownBid,
+                         int opponentBid,
+                         int ownQuantityWon,
+                         int opponentQuantityWon,
+                         int ownCash,
+                         int opponentCash,
+                         String strategyName) {
+}
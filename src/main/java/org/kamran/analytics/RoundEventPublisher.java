@@ -0,0 +1,206 @@
+package org.kamran.analytics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code RoundEventPublisher} streams {@link RoundEvent}s from live auctions to any number of
+ * {@link Flow.Subscriber}s, delivered in batches.
+ * <p>
+ * Every subscriber gets its own bounded buffer and is served on the supplied {@link Executor},
+ * so subscribers consume independently and at their own pace:
+ * <ul>
+ *   <li>{@link #publish(RoundEvent)} never blocks and never runs subscriber code</li>
+ *   <li>A full buffer is handled by the configured {@link OverflowPolicy}</li>
+ *   <li>Each {@code onNext} carries up to {@code maxBatchSize} events, one batch per unit of
+ *   demand</li>
+ * </ul>
+ *
+ * @see RoundEvent
+ * @see OverflowPolicy
+ */
+public class RoundEventPublisher implements Flow.Publisher<List<RoundEvent>>, AutoCloseable {
+
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final int maxBatchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    public RoundEventPublisher(Executor executor, int bufferCapacity, int maxBatchSize, OverflowPolicy overflowPolicy) {
+        if (bufferCapacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Buffer capacity and batch size must be positive");
+        }
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<RoundEvent>> subscriber) {
+        BufferedSubscription subscription = new BufferedSubscription(subscriber);
+        subscriptions.add(subscription);
+        if (closed) {
+            subscription.complete();
+        }
+        subscription.signal();
+    }
+
+    /**
+     * Hands an event to every current subscriber without waiting for any of them.
+     *
+     * @param event The round outcome.
+     */
+    public void publish(RoundEvent event) {
+        if (closed) {
+            return;
+        }
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * @return The number of events dropped across all current subscribers because their buffer was full.
+     */
+    public long getDroppedEventCount() {
+        long dropped = 0;
+        for (BufferedSubscription subscription : subscriptions) {
+            dropped += subscription.dropped.get();
+        }
+        return dropped;
+    }
+
+    /**
+     * Stops accepting events. Subscribers receive what is still buffered, then {@code onComplete}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    private final class BufferedSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super List<RoundEvent>> subscriber;
+        private final ArrayBlockingQueue<RoundEvent> buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile boolean completing;
+        private volatile Throwable demandError;
+        private boolean subscribed; // Only touched by the drain loop
+        private boolean terminated; // Only touched by the drain loop
+
+        BufferedSubscription(Flow.Subscriber<? super List<RoundEvent>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(RoundEvent event) {
+            if (cancelled) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                do {
+                    if (buffer.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                } while (!buffer.offer(event));
+            }
+            signal();
+        }
+
+        void complete() {
+            completing = true;
+            signal();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                demandError = new IllegalArgumentException("Non-positive subscription request: " + n);
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            buffer.clear();
+        }
+
+        /**
+         * Schedules the drain loop unless it is already scheduled, in which case the running loop
+         * picks the new signal up before it exits.
+         */
+        void signal() {
+            if (pendingSignals.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    cancel();
+                }
+            }
+        }
+
+        private void drain() {
+            int signals = pendingSignals.get();
+            do {
+                drainOnce();
+                signals = pendingSignals.addAndGet(-signals);
+            } while (signals != 0);
+        }
+
+        private void drainOnce() {
+            if (terminated) {
+                return;
+            }
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            while (!cancelled && demandError == null && demand.get() > 0 && !buffer.isEmpty()) {
+                List<RoundEvent> batch = new ArrayList<>(Math.min(maxBatchSize, buffer.size()));
+                buffer.drainTo(batch, maxBatchSize);
+                demand.decrementAndGet();
+                try {
+                    subscriber.onNext(Collections.unmodifiableList(batch));
+                } catch (Throwable t) {
+                    cancel(); // A subscriber violating the contract only loses its own stream
+                    terminated = true;
+                    return;
+                }
+            }
+            if (cancelled) {
+                terminated = true;
+            } else if (demandError != null) {
+                terminated = true;
+                cancel();
+                subscriber.onError(demandError);
+            } else if (completing && buffer.isEmpty()) {
+                terminated = true;
+                subscriptions.remove(this);
+                subscriber.onComplete();
+            }
+        }
+    }
+}
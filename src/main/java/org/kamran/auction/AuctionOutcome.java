@@ -0,0 +1,82 @@
+package org.kamran.auction;
+
+/**
+ * {@code AuctionOutcome} is the final result of an auction from our bidder's point of view.
+ * <p>
+ * The winner is whoever won more quantity; a tie on quantity is broken by whoever has more cash
+ * left.
+ *
+ * @see AuctionState
+ */
+public enum AuctionOutcome {
+    WON_ON_QUANTITY("Won on Quantity.", 1.0),
+    LOST_ON_QUANTITY("Lost on Quantity.", 0.0),
+    WON_ON_CASH("Tied on Quantity, Won on Cash.", 1.0),
+    LOST_ON_CASH("Tied on Quantity, Lost on Cash.", 0.0),
+    EXACT_TIE("Exact Tie on Quantity and Cash.", 0.5);
+
+    private final String description;
+    private final double score;
+
+    AuctionOutcome(String description, double score) {
+        this.description = description;
+        this.score = score;
+    }
+
+    /**
+     * Determines the outcome from a (finished) auction state.
+     *
+     * @param state The state of the auction.
+     * @return {@link AuctionOutcome}
+     */
+    public static AuctionOutcome of(AuctionState state) {
+        return of(state.getOwnQuantityWon(), state.getOpponentQuantityWon(), state.getOwnCash(), state.getOpponentCash());
+    }
+
+    /**
+     * Determines the outcome from a (finished) large-scale auction state.
+     *
+     * @param state The state of the auction.
+     * @return {@link AuctionOutcome}
+     */
+    public static AuctionOutcome of(LargeAuctionState state) {
+        return of(state.getOwnQuantityWon(), state.getOpponentQuantityWon(), state.getOwnCash(), state.getOpponentCash());
+    }
+
+    private static AuctionOutcome of(long ownQuantityWon, long opponentQuantityWon, long ownCash, long opponentCash) {
+        if (ownQuantityWon > opponentQuantityWon) {
+            return WON_ON_QUANTITY;
+        } else if (opponentQuantityWon > ownQuantityWon) {
+            return LOST_ON_QUANTITY;
+        } else if (ownCash > opponentCash) {
+            return WON_ON_CASH;
+        } else if (opponentCash > ownCash) {
+            return LOST_ON_CASH;
+        }
+        return EXACT_TIE;
+    }
+
+    /**
+     * @return The outcome as seen by the opponent.
+     */
+    public AuctionOutcome reversed() {
+        return switch (this) {
+            case WON_ON_QUANTITY -> LOST_ON_QUANTITY;
+            case LOST_ON_QUANTITY -> WON_ON_QUANTITY;
+            case WON_ON_CASH -> LOST_ON_CASH;
+            case LOST_ON_CASH -> WON_ON_CASH;
+            case EXACT_TIE -> EXACT_TIE;
+        };
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return {@code 1} for a win, {@code 0} for a loss and {@code 0.5} for an exact tie.
+     */
+    public double getScore() {
+        return score;
+    }
+}
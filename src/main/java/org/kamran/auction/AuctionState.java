@@ -1,6 +1,10 @@
 package org.kamran.auction;
 
+import org.kamran.opponent.OpponentBidDistribution;
+import org.kamran.opponent.OpponentBidPredictor;
+import org.kamran.opponent.OpponentProfile;
 import org.kamran.provider.BiddingStrategyProvider;
+import org.kamran.strategy.BudgetPlanner;
 import org.kamran.strategy.BiddingStrategy;
 
 import java.util.ArrayList;
@@ -22,6 +26,10 @@ public class AuctionState {
     private int ownQuantityWon;
     private int opponentQuantityWon;
     private final List<Integer> opponentBidsHistory; // To observe opponent's behavior
+    private OpponentProfile opponentProfile; // Opponent statistics, possibly carried over from earlier matches
+    private final OpponentBidPredictor opponentBidPredictor; // Learns the opponent's next bid online
+    private final OpponentBidDistribution opponentBidDistribution; // The opponent's bids so far, as a CDF
+    private final BudgetPlanner budgetPlanner; // Spend schedule for the remaining rounds
 
     public AuctionState(int quantity, int cash) {
         this.initialQuantity = quantity;
@@ -32,10 +40,43 @@ public class AuctionState {
         this.ownQuantityWon = 0;
         this.opponentQuantityWon = 0;
         this.opponentBidsHistory = new ArrayList<>();
+        this.opponentProfile = new OpponentProfile();
+        this.opponentBidPredictor = new OpponentBidPredictor(cash);
+        this.opponentBidDistribution = new OpponentBidDistribution(cash);
+        this.budgetPlanner = new BudgetPlanner();
+    }
+
+    private AuctionState(AuctionState other) {
+        this.initialQuantity = other.initialQuantity;
+        this.remainingQuantity = other.remainingQuantity;
+        this.initialCash = other.initialCash;
+        this.ownCash = other.ownCash;
+        this.opponentCash = other.opponentCash;
+        this.ownQuantityWon = other.ownQuantityWon;
+        this.opponentQuantityWon = other.opponentQuantityWon;
+        this.opponentBidsHistory = new ArrayList<>(other.opponentBidsHistory);
+        this.opponentProfile = other.opponentProfile.copy();
+        this.opponentBidPredictor = other.opponentBidPredictor.copy();
+        this.opponentBidDistribution = other.opponentBidDistribution.copy();
+        this.budgetPlanner = other.budgetPlanner.copy();
+    }
+
+    /**
+     * Creates an independent snapshot of this state, e.g. to evaluate a hypothetical round on
+     * another thread without touching the live state.
+     *
+     * @return A deep copy of this state.
+     */
+    public AuctionState copy() {
+        return new AuctionState(this);
     }
 
     // --- Getters ---
 
+    public int getInitialQuantity() {
+        return initialQuantity;
+    }
+
     public int getRemainingQuantity() {
         return remainingQuantity;
     }
@@ -64,6 +105,26 @@ public class AuctionState {
         return new ArrayList<>(opponentBidsHistory);
     }
 
+    public OpponentProfile getOpponentProfile() {
+        return opponentProfile;
+    }
+
+    public void setOpponentProfile(OpponentProfile opponentProfile) {
+        this.opponentProfile = opponentProfile;
+    }
+
+    public OpponentBidPredictor getOpponentBidPredictor() {
+        return opponentBidPredictor;
+    }
+
+    public OpponentBidDistribution getOpponentBidDistribution() {
+        return opponentBidDistribution;
+    }
+
+    public BudgetPlanner getBudgetPlanner() {
+        return budgetPlanner;
+    }
+
     public int getRemainingRounds() {
         return (remainingQuantity + 1) / 2; // Each round auctions 2 QU
     }
@@ -76,22 +137,32 @@ public class AuctionState {
         return getTargetQuantity() - ownQuantityWon;
     }
 
+    /**
+     * Records the opponent's bid for the current round. Must be called before the round is
+     * settled via {@link #updateCash(int, int)} and {@link #updateQuantities(int, int)}, so the
+     * opponent profile and bid predictor see the state the bid was placed in.
+     *
+     * @param bid The opponent's bid.
+     */
     public void recordOpponentBid(int bid) {
+        this.opponentProfile.record(this, bid);
+        this.opponentBidPredictor.observe(this, bid);
+        this.opponentBidDistribution.add(bid);
         this.opponentBidsHistory.add(bid);
     }
 
     public void updateCash(int ownBidPaid, int opponentBidPaid) {
-        this.ownCash -= ownBidPaid;
-        this.opponentCash -= opponentBidPaid;
-        this.ownCash = Math.max(0, this.ownCash); // Ensure non-negative
-        this.opponentCash = Math.max(0, this.opponentCash); // Ensure non-negative
+        // Computed in long so extreme bids cannot wrap around
+        this.ownCash = Math.clamp((long) this.ownCash - ownBidPaid, 0, Integer.MAX_VALUE); // Ensure non-negative
+        this.opponentCash = Math.clamp((long) this.opponentCash - opponentBidPaid, 0, Integer.MAX_VALUE); // Ensure non-negative
     }
 
     public void updateQuantities(int ownWonThisRound, int opponentWonThisRound) {
-        this.ownQuantityWon += ownWonThisRound;
-        this.opponentQuantityWon += opponentWonThisRound;
-        this.remainingQuantity -= (ownWonThisRound + opponentWonThisRound);
-        this.remainingQuantity = Math.max(0, this.remainingQuantity); // Ensure non-negative
+        // Computed in long so extreme quantities cannot wrap around
+        this.ownQuantityWon = Math.clamp((long) this.ownQuantityWon + ownWonThisRound, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        this.opponentQuantityWon = Math.clamp((long) this.opponentQuantityWon + opponentWonThisRound, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        long auctioned = (long) ownWonThisRound + opponentWonThisRound;
+        this.remainingQuantity = Math.clamp(this.remainingQuantity - auctioned, 0, Integer.MAX_VALUE); // Ensure non-negative
     }
 
     public boolean isAuctionOver() {
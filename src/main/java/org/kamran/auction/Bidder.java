@@ -3,7 +3,7 @@ package org.kamran.auction;
 /**
  * Represents a bidder for the action.
  */
-interface Bidder {
+public interface Bidder {
     /**
      * Initializes the bidder with the production quantity and the allowed cash limit. *
      *
@@ -25,4 +25,17 @@ interface Bidder {
      * @param other the bid of the other bidder
      */
     void bids(int own, int other);
+
+    /**
+     * Shows the bids of the two bidders and retrieves the next bid in a single call, saving a
+     * round-trip for harnesses that support it.
+     *
+     * @param own   the bid of this bidder
+     * @param other the bid of the other bidder
+     * @return the next bid
+     */
+    default int bidsAndPlaceNext(int own, int other) {
+        bids(own, other);
+        return placeBid();
+    }
 }
\ No newline at end of file
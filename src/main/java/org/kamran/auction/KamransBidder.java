@@ -1,7 +1,21 @@
 package org.kamran.auction;
 
+import org.kamran.analytics.RoundEvent;
+import org.kamran.analytics.RoundEventPublisher;
+import org.kamran.opponent.OpponentProfile;
+import org.kamran.opponent.OpponentProfileStore;
 import org.kamran.provider.BiddingStrategyProvider;
+import org.kamran.strategy.AdaptiveStrategy;
+import org.kamran.strategy.AggressiveStrategy;
 import org.kamran.strategy.BiddingStrategy;
+import org.kamran.strategy.ConservativeStrategy;
+import org.kamran.strategy.ZeroBidStrategy;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * {@code KamransBidder} is an implementation of the {@link Bidder} interface for auction where two
@@ -34,6 +48,28 @@ import org.kamran.strategy.BiddingStrategy;
  * </ul>
  * <p>
  * {@link BiddingStrategyProvider} can be customized to support more {@link BiddingStrategy} implementations if required.
+ * <p>
+ * When created with an {@link OpponentProfileStore}, the bidder starts each match with the profile
+ * learned in earlier matches against the same opponent. The profile is loaded in the background
+ * and adopted as soon as it is available, so {@link #init(int, int)} never waits for it; the
+ * observations of the match are saved back to the store when the auction is over.
+ * <p>
+ * When created with a seeded {@link Random}, the selected strategies are played with the bidder's
+ * own instances of the bundled strategies drawing from that source, so a match can be replayed
+ * exactly. Such a bidder cannot speculate: decisions computed on a background thread would draw
+ * from the same source in an unpredictable order.
+ * <p>
+ * The outcome of every round can be streamed to analytics through a {@link RoundEventPublisher};
+ * publishing never waits for subscribers.
+ * <p>
+ * With a speculation executor set, the idle time between {@link #placeBid()} and
+ * {@link #bids(int, int)} is used to precompute the next bid on a background thread for a tie,
+ * on one {@link AuctionState} snapshot. A tie is the only outcome whose opponent bid is known in
+ * advance; the state after a win or a loss depends on the exact opponent bid, which is rarely
+ * predicted exactly. When the round is tied and the strategies and rules have not changed since,
+ * the next {@link #placeBid()} is a lookup; otherwise it is computed as usual. This only pays off
+ * with a spare core for the executor and an opponent that ties often: on a single core, or when
+ * most speculations miss, the background work competes with the caller and slows bidding down.
  *
  * @see AuctionState
  * @see BiddingStrategy
@@ -41,11 +77,80 @@ import org.kamran.strategy.BiddingStrategy;
  */
 public class KamransBidder implements Bidder {
 
+    private final String opponentId;
+    private final OpponentProfileStore profileStore;
+    private final Map<String, BiddingStrategy> ownStrategies; // By name, played instead of the shared instances
     private AuctionState auctionState;
+    private CompletableFuture<OpponentProfile> pendingProfile;
+    private OpponentProfile matchProfile; // Observations of this match only, merged into the store at the end
+    private RoundEventPublisher roundEventPublisher;
+    private String lastStrategyName;
+    private int round;
+    private Executor speculationExecutor;
+    private Speculation speculation;
+    private CompletableFuture<Decision> speculatedDecision;
+    private long speculationHits;
+    private long speculationMisses;
+
+    public KamransBidder() {
+        this.opponentId = null;
+        this.profileStore = null;
+        this.ownStrategies = Map.of();
+    }
+
+    /**
+     * @param random Source of the strategies' random decisions, e.g. seeded to replay a match.
+     */
+    public KamransBidder(Random random) {
+        this.opponentId = null;
+        this.profileStore = null;
+        this.ownStrategies = Map.of(
+                "Zero bid", new ZeroBidStrategy(),
+                "Aggressive", new AggressiveStrategy(random),
+                "Conservative", new ConservativeStrategy(random),
+                "Adaptive", new AdaptiveStrategy(random));
+    }
+
+    /**
+     * @param opponentId   Identifier of the opponent this bidder plays against.
+     * @param profileStore Store to load the opponent's profile from and save it to.
+     */
+    public KamransBidder(String opponentId, OpponentProfileStore profileStore) {
+        this.opponentId = Objects.requireNonNull(opponentId, "opponentId");
+        this.profileStore = Objects.requireNonNull(profileStore, "profileStore");
+        this.ownStrategies = Map.of();
+    }
+
+    /**
+     * @param roundEventPublisher Publisher to stream round outcomes to, or {@code null} to stop streaming.
+     */
+    public void setRoundEventPublisher(RoundEventPublisher roundEventPublisher) {
+        this.roundEventPublisher = roundEventPublisher;
+    }
+
+    /**
+     * @param speculationExecutor Executor to precompute next bids on, or {@code null} to disable speculation.
+     * @throws IllegalStateException If this bidder was created with a {@link Random}, whose
+     *                               decisions must stay in the order of the match to replay it.
+     */
+    public void setSpeculationExecutor(Executor speculationExecutor) {
+        if (speculationExecutor != null && !ownStrategies.isEmpty()) {
+            throw new IllegalStateException("A bidder with its own Random cannot speculate, its matches could not be replayed");
+        }
+        this.speculationExecutor = speculationExecutor;
+        cancelSpeculations();
+    }
 
     @Override
     public void init(int quantity, int cash) {
         this.auctionState = new AuctionState(quantity, cash);
+        this.lastStrategyName = null;
+        this.round = 0;
+        cancelSpeculations();
+        if (profileStore != null) {
+            this.matchProfile = new OpponentProfile();
+            this.pendingProfile = profileStore.load(opponentId);
+        }
     }
 
     @Override
@@ -53,64 +158,219 @@ public class KamransBidder implements Bidder {
         if (auctionState.isAuctionOver()) {
             return 0;
         }
+        if (adoptLoadedProfile()) {
+            cancelSpeculations(); // Precomputed against the profile we just replaced
+        }
 
-        BiddingStrategy currentStrategy = BiddingStrategyProvider.determineStrategy(this.auctionState);
+        Decision speculated = takeSpeculatedDecision();
+        String strategyName;
+        int bid;
 
         System.out.println("Current State: " + auctionState.toString());
-        System.out.println("Using Strategy: " + currentStrategy.getStrategyName());
-
-        int bid = Math.clamp(currentStrategy.calculateBid(auctionState), 0, auctionState.getOwnCash());
+        if (speculated != null) {
+            strategyName = speculated.strategyName();
+            bid = speculated.bid();
+            System.out.println("Using Strategy: " + strategyName + " (precomputed)");
+        } else {
+            BiddingStrategy currentStrategy = determineStrategy(this.auctionState);
+            strategyName = currentStrategy.getStrategyName();
+            System.out.println("Using Strategy: " + strategyName);
+            bid = Math.clamp(currentStrategy.calculateBid(auctionState), 0, auctionState.getOwnCash());
+        }
+        lastStrategyName = strategyName;
 
         System.out.println("Bot places bid: " + bid);
+        speculate(bid);
         return bid;
     }
 
     @Override
     public void bids(int ownBid, int otherBid) {
         System.out.println("Round Result - Own Bid: " + ownBid + ", Opponent Bid: " + otherBid);
-        auctionState.updateCash(ownBid, otherBid);
-        auctionState.recordOpponentBid(otherBid);
+        if (adoptLoadedProfile()) {
+            cancelSpeculations(); // Precomputed against the profile we just replaced
+        }
+        if (matchProfile != null) {
+            matchProfile.record(auctionState, otherBid);
+        }
+        settleRound(auctionState, ownBid, otherBid);
 
-        int ownWonThisRound = 0;
-        int opponentWonThisRound = 0;
+        int ownWonThisRound = quantityWon(ownBid, otherBid);
+        int opponentWonThisRound = quantityWon(otherBid, ownBid);
 
         if (ownBid > otherBid) {
-            ownWonThisRound = 2;
             System.out.println("Result: Won " + ownWonThisRound + " QU.");
         } else if (otherBid > ownBid) {
-            opponentWonThisRound = 2;
             System.out.println("Result: Lost, opponent won " + opponentWonThisRound + " QU.");
         } else {
-            // Tie
-            ownWonThisRound = 1;
-            opponentWonThisRound = 1;
             System.out.println("Result: Tied. Own won " + ownWonThisRound + " QU, Opponent won " + opponentWonThisRound + " QU.");
         }
 
-        auctionState.updateQuantities(ownWonThisRound, opponentWonThisRound);
+        round++;
+        if (roundEventPublisher != null) {
+            roundEventPublisher.publish(new RoundEvent(round, ownBid, otherBid, ownWonThisRound, opponentWonThisRound,
+                    auctionState.getOwnCash(), auctionState.getOpponentCash(), lastStrategyName));
+        }
+        resolveSpeculation(ownBid, otherBid);
         System.out.println("State After Round: " + auctionState.toString());
         System.out.println("-----------------------------------------------");
         if (auctionState.isAuctionOver()) {
             printFinalOutcome();
+            if (profileStore != null) {
+                profileStore.save(opponentId, matchProfile).exceptionally(e -> {
+                    System.out.println("Could not save opponent profile for " + opponentId + ": " + e.getMessage());
+                    return null;
+                });
+            }
+        }
+    }
+
+    /**
+     * @return The strategy the current rules select for {@code state}, as this bidder's own instance if it has one.
+     */
+    private BiddingStrategy determineStrategy(AuctionState state) {
+        BiddingStrategy selected = BiddingStrategyProvider.determineStrategy(state);
+        return ownStrategies.getOrDefault(selected.getStrategyName(), selected);
+    }
+
+    /**
+     * Applies the outcome of a round to {@code state}: records the opponent bid, charges both bids
+     * and hands out the quantity.
+     */
+    private static void settleRound(AuctionState state, int ownBid, int otherBid) {
+        state.recordOpponentBid(otherBid);
+        state.updateCash(ownBid, otherBid);
+        state.updateQuantities(quantityWon(ownBid, otherBid), quantityWon(otherBid, ownBid));
+    }
+
+    /**
+     * @return The quantity the bidder placing {@code bid} wins against {@code otherBid}: 2 QU for
+     * the higher bid, 1 QU each on a tie.
+     */
+    private static int quantityWon(int bid, int otherBid) {
+        if (bid > otherBid) return 2;
+        return bid == otherBid ? 1 : 0;
+    }
+
+    // --- Speculative bidding ---
+
+    /**
+     * Precomputes the next bid for a tie, the one outcome that can be settled without guessing
+     * the opponent bid.
+     */
+    private void speculate(int ownBid) {
+        cancelSpeculations();
+        if (speculationExecutor == null || auctionState.getOpponentCash() < ownBid) {
+            return;
+        }
+        AuctionState snapshot = auctionState.copy(); // bids() changes the live state while the task runs
+        CompletableFuture<Decision> nextDecision = CompletableFuture.supplyAsync(() -> {
+            long version = BiddingStrategyProvider.getVersion(); // Read first: a reload during selection makes it stale
+            settleRound(snapshot, ownBid, ownBid);
+            if (snapshot.isAuctionOver()) {
+                return null; // placeBid returns 0 without consulting a strategy
+            }
+            BiddingStrategy strategy = determineStrategy(snapshot);
+            return new Decision(strategy.getStrategyName(),
+                    Math.clamp(strategy.calculateBid(snapshot), 0, snapshot.getOwnCash()), version);
+        }, speculationExecutor);
+        speculation = new Speculation(ownBid, nextDecision);
+    }
+
+    /**
+     * Keeps the speculation for the next {@link #placeBid()} if the round was the speculated tie.
+     */
+    private void resolveSpeculation(int ownBid, int otherBid) {
+        if (speculatedDecision != null) {
+            speculatedDecision.cancel(false); // Left over from a round placeBid was never asked for
+            speculatedDecision = null;
+        }
+        if (speculation == null) {
+            return;
+        }
+        if (speculation.bid() == ownBid && otherBid == ownBid) {
+            speculatedDecision = speculation.nextDecision();
+        } else {
+            speculation.nextDecision().cancel(false);
+            speculationMisses++;
+        }
+        speculation = null;
+    }
+
+    /**
+     * @return The precomputed decision for the current state, or {@code null} if there is none, it
+     * is not ready yet (waiting for it would be no faster than computing it) or the strategies or
+     * rules were changed after it was made.
+     */
+    private Decision takeSpeculatedDecision() {
+        CompletableFuture<Decision> decision = speculatedDecision;
+        speculatedDecision = null;
+        if (decision == null) {
+            return null;
+        }
+        if (!decision.isDone() || decision.isCompletedExceptionally() || decision.join() == null
+            || decision.join().version() != BiddingStrategyProvider.getVersion()) {
+            decision.cancel(false);
+            speculationMisses++;
+            return null;
+        }
+        speculationHits++;
+        return decision.join();
+    }
+
+    private void cancelSpeculations() {
+        if (speculation != null) {
+            speculation.nextDecision().cancel(false);
+            speculation = null;
+        }
+        if (speculatedDecision != null) {
+            speculatedDecision.cancel(false);
+            speculatedDecision = null;
         }
     }
 
+    long getSpeculationHits() {
+        return speculationHits;
+    }
+
+    long getSpeculationMisses() {
+        return speculationMisses;
+    }
+
+    AuctionState getAuctionState() {
+        return auctionState;
+    }
+
+    /**
+     * Switches the auction state over to the stored opponent profile once it has been loaded,
+     * keeping whatever was observed in this match before it arrived.
+     *
+     * @return {@code true} if the profile was switched by this call.
+     */
+    private boolean adoptLoadedProfile() {
+        if (pendingProfile == null || !pendingProfile.isDone()) {
+            return false;
+        }
+        OpponentProfile loaded = pendingProfile.exceptionally(e -> new OpponentProfile()).join();
+        pendingProfile = null;
+        loaded.merge(auctionState.getOpponentProfile());
+        auctionState.setOpponentProfile(loaded);
+        return true;
+    }
+
     private void printFinalOutcome() {
         System.out.println("Auction Finished!");
         System.out.println("Final Score - Own QU: " + auctionState.getOwnQuantityWon() + " (Cash Left: " + auctionState.getOwnCash() +
                            "), Opponent QU: " + auctionState.getOpponentQuantityWon() + " (Cash Left: " + auctionState.getOpponentCash() + ")");
-        if (auctionState.getOwnQuantityWon() > auctionState.getOpponentQuantityWon()) {
-            System.out.println("Outcome: Won on Quantity.");
-        } else if (auctionState.getOpponentQuantityWon() > auctionState.getOwnQuantityWon()) {
-            System.out.println("Outcome: Lost on Quantity.");
-        } else {
-            if (auctionState.getOwnCash() > auctionState.getOpponentCash()) {
-                System.out.println("Outcome: Tied on Quantity, Won on Cash.");
-            } else if (auctionState.getOpponentCash() > auctionState.getOwnCash()) {
-                System.out.println("Outcome: Tied on Quantity, Lost on Cash.");
-            } else {
-                System.out.println("Outcome: Exact Tie on Quantity and Cash.");
-            }
-        }
+        System.out.println("Outcome: " + AuctionOutcome.of(auctionState).getDescription());
+    }
+
+    /**
+     * @param version {@link BiddingStrategyProvider#getVersion()} when the decision was made.
+     */
+    private record Decision(String strategyName, int bid, long version) {
+    }
+
+    private record Speculation(int bid, CompletableFuture<Decision> nextDecision) {
     }
 }
\ No newline at end of file
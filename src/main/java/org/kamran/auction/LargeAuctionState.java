@@ -0,0 +1,157 @@
+package org.kamran.auction;
+
+/**
+ * {@code LargeAuctionState} is the 64-bit counterpart of {@link AuctionState} for auctions with
+ * quantities in the millions and cash in the trillions.
+ * <p>
+ * Every operation is O(1) in time and memory regardless of how many rounds have been played:
+ * <ul>
+ *   <li>The opponent's bids are summarized by count, sum, last bid and an exponential moving
+ *   average instead of a growing history list</li>
+ *   <li>Cash and quantity updates saturate instead of overflowing, and never go negative</li>
+ * </ul>
+ *
+ * @see LargeScaleBidder
+ * @see AuctionState
+ */
+public class LargeAuctionState {
+    private static final double RECENT_BID_WEIGHT = 0.2; // Weight of the newest bid in the moving average
+
+    private final long initialQuantity;
+    private long remainingQuantity;
+    private final long initialCash;
+    private long ownCash;
+    private long opponentCash;
+    private long ownQuantityWon;
+    private long opponentQuantityWon;
+    private long opponentBidCount;
+    private long opponentBidSum;
+    private long lastOpponentBid;
+    private double recentOpponentBidAverage;
+
+    public LargeAuctionState(long quantity, long cash) {
+        this.initialQuantity = Math.max(0, quantity);
+        this.remainingQuantity = this.initialQuantity;
+        this.initialCash = Math.max(0, cash);
+        this.ownCash = this.initialCash;
+        this.opponentCash = this.initialCash;
+    }
+
+    // --- Getters ---
+
+    public long getInitialQuantity() {
+        return initialQuantity;
+    }
+
+    public long getRemainingQuantity() {
+        return remainingQuantity;
+    }
+
+    public long getInitialCash() {
+        return initialCash;
+    }
+
+    public long getOwnCash() {
+        return ownCash;
+    }
+
+    public long getOpponentCash() {
+        return opponentCash;
+    }
+
+    public long getOwnQuantityWon() {
+        return ownQuantityWon;
+    }
+
+    public long getOpponentQuantityWon() {
+        return opponentQuantityWon;
+    }
+
+    public long getOpponentBidCount() {
+        return opponentBidCount;
+    }
+
+    public long getLastOpponentBid() {
+        return lastOpponentBid;
+    }
+
+    /**
+     * @return The mean of all opponent bids so far, or {@code 0} before the first round.
+     */
+    public long getAverageOpponentBid() {
+        return opponentBidCount == 0 ? 0 : opponentBidSum / opponentBidCount;
+    }
+
+    /**
+     * @return An exponential moving average of the opponent's bids, weighted towards recent rounds.
+     */
+    public long getRecentAverageOpponentBid() {
+        return (long) recentOpponentBidAverage;
+    }
+
+    public long getRemainingRounds() {
+        return remainingQuantity / 2 + remainingQuantity % 2; // Each round auctions 2 QU, without overflowing at Long.MAX_VALUE
+    }
+
+    public long getTargetQuantity() {
+        return (initialQuantity / 2) + 1;
+    }
+
+    public long getNeededQuantityToWin() {
+        return getTargetQuantity() - ownQuantityWon;
+    }
+
+    public void recordOpponentBid(long bid) {
+        long paid = Math.max(0, bid);
+        this.opponentBidSum = saturatedAdd(this.opponentBidSum, paid);
+        this.opponentBidCount++;
+        this.lastOpponentBid = paid;
+        this.recentOpponentBidAverage = opponentBidCount == 1
+                ? paid
+                : recentOpponentBidAverage + RECENT_BID_WEIGHT * (paid - recentOpponentBidAverage);
+    }
+
+    public void updateCash(long ownBidPaid, long opponentBidPaid) {
+        this.ownCash = Math.max(0, saturatedSubtract(this.ownCash, ownBidPaid)); // Ensure non-negative
+        this.opponentCash = Math.max(0, saturatedSubtract(this.opponentCash, opponentBidPaid)); // Ensure non-negative
+    }
+
+    public void updateQuantities(long ownWonThisRound, long opponentWonThisRound) {
+        this.ownQuantityWon = saturatedAdd(this.ownQuantityWon, ownWonThisRound);
+        this.opponentQuantityWon = saturatedAdd(this.opponentQuantityWon, opponentWonThisRound);
+        long auctioned = saturatedAdd(ownWonThisRound, opponentWonThisRound);
+        this.remainingQuantity = Math.max(0, saturatedSubtract(this.remainingQuantity, auctioned)); // Ensure non-negative
+    }
+
+    public boolean isAuctionOver() {
+        return remainingQuantity <= 0;
+    }
+
+    static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        if (((a ^ sum) & (b ^ sum)) < 0) { // Both operands have the sign the sum lost
+            return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return sum;
+    }
+
+    static long saturatedSubtract(long a, long b) {
+        long difference = a - b;
+        if (((a ^ b) & (a ^ difference)) < 0) { // Operands differ in sign and the result flipped
+            return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return difference;
+    }
+
+    @Override
+    public String toString() {
+        return "LargeAuctionState{" +
+               "remQU=" + remainingQuantity +
+               ", ownMU=" + ownCash +
+               ", oppMU=" + opponentCash +
+               ", ownQuWon=" + ownQuantityWon +
+               ", oppQuWon=" + opponentQuantityWon +
+               ", roundsLeft=" + getRemainingRounds() +
+               '}';
+    }
+}
@@ -0,0 +1,145 @@
+package org.kamran.auction;
+
+import org.kamran.provider.BiddingStrategyProvider;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@code LargeScaleBidder} is a {@link LongBidder} for auctions with millions of rounds and cash
+ * in the trillions.
+ * <p>
+ * It picks a strategy with the same selection rules as {@link KamransBidder}, through
+ * {@link BiddingStrategyProvider#determineStrategy(LargeAuctionState)}, so rule changes apply to both.
+ * The strategies themselves work on {@code int} states, so the selected one is played by a
+ * {@code long} counterpart here. The counterparts follow the bundled strategies, except that they
+ * estimate the opponent from a moving average and do not consult the budget planner or the
+ * opponent's bid distribution, which would need the full bid history. A strategy registered at
+ * runtime has no counterpart, so rules that select one cannot be played here.
+ * <p>
+ * Working on a {@link LargeAuctionState} keeps every round at O(1) time and memory:
+ * <ul>
+ *   <li>The opponent is estimated from a moving average rather than the full bid history</li>
+ *   <li>Nothing is allocated per round</li>
+ *   <li>Only the final outcome is logged, per-round logging would dominate at this scale</li>
+ * </ul>
+ *
+ * @see LargeAuctionState
+ * @see KamransBidder
+ */
+public class LargeScaleBidder implements LongBidder {
+
+    private final SplittableRandom random;
+    private LargeAuctionState auctionState;
+
+    public LargeScaleBidder() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * @param seed Seed for the small random factor added to bids, for reproducible runs.
+     */
+    public LargeScaleBidder(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private LargeScaleBidder(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public void init(long quantity, long cash) {
+        this.auctionState = new LargeAuctionState(quantity, cash);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException If the rules select a strategy without a {@code long} counterpart.
+     */
+    @Override
+    public long placeBid() {
+        LargeAuctionState state = auctionState;
+        if (state.isAuctionOver() || state.getOwnCash() == 0) {
+            return 0;
+        }
+        String strategyName = BiddingStrategyProvider.determineStrategy(state).getStrategyName();
+        long bid = switch (strategyName) {
+            case "Zero bid" -> 0;
+            case "Aggressive" -> aggressiveBid(state);
+            case "Conservative" -> conservativeBid(state);
+            case "Adaptive" -> adaptiveBid(state);
+            default -> throw new IllegalStateException("Strategy '" + strategyName + "' has no large-scale counterpart");
+        };
+        return Math.clamp(bid, 0, state.getOwnCash());
+    }
+
+    /**
+     * @see org.kamran.strategy.AdaptiveStrategy
+     */
+    private long adaptiveBid(LargeAuctionState state) {
+        long ownCash = state.getOwnCash();
+        long remainingRounds = Math.max(1, state.getRemainingRounds());
+        long estimatedOpponentBid = state.getOpponentBidCount() == 0
+                ? state.getOpponentCash() / remainingRounds
+                : state.getRecentAverageOpponentBid();
+        estimatedOpponentBid = Math.min(estimatedOpponentBid, state.getOpponentCash()); // Cap at opponent's current cash
+
+        if (remainingRounds <= state.getNeededQuantityToWin()) {
+            // Critical: bid above the estimate, but don't blow the entire budget if several critical rounds remain
+            long spread = ownCash / LargeAuctionState.saturatedAdd(remainingRounds, remainingRounds);
+            long bid = LargeAuctionState.saturatedAdd(estimatedOpponentBid, 1 + random.nextLong(spread + 1));
+            bid = Math.min(bid, ownCash / remainingRounds);
+            return Math.max(1, bid);
+        }
+        long affordableBid = ownCash / remainingRounds;
+        return Math.min(affordableBid / 2, LargeAuctionState.saturatedAdd(estimatedOpponentBid, 1 + random.nextLong(3)));
+    }
+
+    /**
+     * @see org.kamran.strategy.AggressiveStrategy
+     */
+    private long aggressiveBid(LargeAuctionState state) {
+        long remainingRounds = Math.max(1, state.getRemainingRounds());
+        long estimatedOpponentBid = state.getOpponentBidCount() == 0
+                ? state.getOpponentCash() / remainingRounds / 2
+                : state.getRecentAverageOpponentBid();
+        estimatedOpponentBid = Math.min(estimatedOpponentBid, state.getOpponentCash()); // Cannot bid more than they have
+
+        long bid = LargeAuctionState.saturatedAdd(estimatedOpponentBid, 1 + random.nextLong(3));
+        if (remainingRounds <= 2 && state.getNeededQuantityToWin() > 0) {
+            bid = Math.max(bid, LargeAuctionState.saturatedAdd(state.getOpponentCash() / remainingRounds, 1));
+            bid = Math.max(bid, state.getOwnCash() / remainingRounds); // Spend more if needed
+        }
+        return bid;
+    }
+
+    /**
+     * @see org.kamran.strategy.ConservativeStrategy
+     */
+    private long conservativeBid(LargeAuctionState state) {
+        return Math.min(state.getOwnCash() / 10, 5 + random.nextLong(5));
+    }
+
+    @Override
+    public void bids(long ownBid, long otherBid) {
+        auctionState.recordOpponentBid(otherBid);
+        auctionState.updateCash(ownBid, otherBid);
+
+        if (ownBid > otherBid) {
+            auctionState.updateQuantities(2, 0);
+        } else if (otherBid > ownBid) {
+            auctionState.updateQuantities(0, 2);
+        } else {
+            auctionState.updateQuantities(1, 1); // Tie
+        }
+
+        if (auctionState.isAuctionOver()) {
+            System.out.println("Auction Finished! " + auctionState);
+            System.out.println("Outcome: " + AuctionOutcome.of(auctionState).getDescription());
+        }
+    }
+
+    LargeAuctionState getAuctionState() {
+        return auctionState;
+    }
+}
@@ -0,0 +1,30 @@
+package org.kamran.auction;
+
+/**
+ * Represents a bidder for large-scale auctions, where quantity and cash exceed the {@code int}
+ * range of {@link Bidder}.
+ */
+public interface LongBidder {
+    /**
+     * Initializes the bidder with the production quantity and the allowed cash limit.
+     *
+     * @param quantity the quantity
+     * @param cash     the cash limit
+     */
+    void init(long quantity, long cash);
+
+    /**
+     * Retrieves the next bid for the product, which may be zero.
+     *
+     * @return the next bid
+     */
+    long placeBid();
+
+    /**
+     * Shows the bids of the two bidders.
+     *
+     * @param own   the bid of this bidder
+     * @param other the bid of the other bidder
+     */
+    void bids(long own, long other);
+}
@@ -0,0 +1,60 @@
+package org.kamran.cli;
+
+import org.kamran.auction.KamransBidder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code BidderMain} runs a single {@link KamransBidder} session over stdin/stdout using the
+ * {@link BidderProtocol}, for tournament hosts that start one process per match.
+ * <p>
+ * Standard output is reserved for protocol replies, so the bidder's own logging is redirected to
+ * standard error. Options:
+ * <ul>
+ *   <li>{@code --quiet} discards the bidder's logging altogether</li>
+ *   <li>{@code --speculate} precomputes next bids on background threads between rounds; this only
+ *   pays off with a spare core and an opponent that ties often, see {@link KamransBidder}</li>
+ * </ul>
+ */
+public class BidderMain {
+
+    private BidderMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> options = List.of(args);
+        PrintStream protocolOut = System.out;
+        System.setOut(options.contains("--quiet") ? new PrintStream(OutputStream.nullOutputStream()) : System.err);
+
+        KamransBidder bidder = new KamransBidder();
+        ExecutorService speculationExecutor = null;
+        if (options.contains("--speculate")) {
+            speculationExecutor = Executors.newFixedThreadPool(3, runnable -> {
+                Thread thread = new Thread(runnable, "bid-speculation");
+                thread.setDaemon(true);
+                return thread;
+            });
+            bidder.setSpeculationExecutor(speculationExecutor);
+        }
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(protocolOut, StandardCharsets.UTF_8), false);
+        try {
+            new BidderProtocol(bidder, in, out).run();
+        } finally {
+            if (speculationExecutor != null) {
+                speculationExecutor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.kamran.cli;
+
+import org.kamran.auction.KamransBidder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * {@code BidderProtocol} exposes a {@link KamransBidder} over a simple line-based text protocol,
+ * one command per line and exactly one reply line per command:
+ * <pre>
+ *   INIT &lt;quantity&gt; &lt;cash&gt;   -&gt; OK
+ *   BID                      -&gt; &lt;bid&gt;
+ *   BIDS &lt;own&gt; &lt;other&gt;       -&gt; OK
+ *   NEXT &lt;own&gt; &lt;other&gt;       -&gt; &lt;bid&gt;   (BIDS and BID in one round-trip)
+ *   QUIT                     -&gt; BYE
+ * </pre>
+ * Malformed commands, and commands the bidder fails on, are answered with {@code ERR <reason>}
+ * and do not end the session.
+ *
+ * @see BidderMain
+ */
+public class BidderProtocol {
+
+    private final KamransBidder bidder;
+    private final BufferedReader in;
+    private final PrintWriter out;
+    private boolean initialized;
+
+    public BidderProtocol(KamransBidder bidder, BufferedReader in, PrintWriter out) {
+        this.bidder = bidder;
+        this.in = in;
+        this.out = out;
+    }
+
+    /**
+     * Serves commands until {@code QUIT} or the end of the input.
+     *
+     * @throws IOException If reading the input fails.
+     */
+    public void run() throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            String reply = handle(line.trim());
+            out.println(reply);
+            out.flush();
+            if ("BYE".equals(reply)) {
+                return;
+            }
+        }
+    }
+
+    String handle(String line) {
+        if (line.isEmpty()) {
+            return "ERR empty command";
+        }
+        String[] parts = line.split("\\s+");
+        try {
+            return switch (parts[0].toUpperCase()) {
+                case "INIT" -> {
+                    requireArguments(parts, 2);
+                    bidder.init(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                    initialized = true;
+                    yield "OK";
+                }
+                case "BID" -> {
+                    requireInitialized();
+                    yield Integer.toString(bidder.placeBid());
+                }
+                case "BIDS" -> {
+                    requireArguments(parts, 2);
+                    requireInitialized();
+                    bidder.bids(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                    yield "OK";
+                }
+                case "NEXT" -> {
+                    requireArguments(parts, 2);
+                    requireInitialized();
+                    yield Integer.toString(bidder.bidsAndPlaceNext(Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+                }
+                case "QUIT" -> "BYE";
+                default -> "ERR unknown command: " + parts[0];
+            };
+        } catch (NumberFormatException e) {
+            return "ERR not a number: " + e.getMessage();
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        } catch (RuntimeException e) {
+            System.out.println("Command failed: " + line + ": " + e); // Bidder logging, never the protocol output
+            return "ERR internal error: " + e;
+        }
+    }
+
+    private static void requireArguments(String[] parts, int count) {
+        if (parts.length != count + 1) {
+            throw new IllegalArgumentException(parts[0].toUpperCase() + " expects " + count + " arguments");
+        }
+    }
+
+    private void requireInitialized() {
+        if (!initialized) {
+            throw new IllegalStateException("INIT must come first");
+        }
+    }
+}
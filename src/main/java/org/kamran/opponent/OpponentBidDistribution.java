@@ -0,0 +1,121 @@
+package org.kamran.opponent;
+
+/**
+ * {@code OpponentBidDistribution} is the empirical distribution of the opponent's bids in the
+ * current auction, kept in a Fenwick tree so that both updates and CDF queries are O(log cash).
+ * <p>
+ * Bids between 0 and the initial cash are counted in at most {@value #MAX_BUCKETS} equally wide
+ * buckets, so memory stays bounded for any cash amount:
+ * <ul>
+ *   <li>With up to {@value #MAX_BUCKETS} MU of initial cash every bid has its own bucket and all
+ *   answers are exact</li>
+ *   <li>Otherwise a bid only counts as below another once their buckets differ, which errs on the
+ *   side of bidding slightly more</li>
+ * </ul>
+ *
+ * @see org.kamran.auction.AuctionState#getOpponentBidDistribution()
+ * @see org.kamran.strategy.BidOptimizer
+ */
+public class OpponentBidDistribution {
+
+    static final int MAX_BUCKETS = 4096;
+
+    private final int bucketWidth;
+    private final int[] tree; // 1-based Fenwick tree over the bucket counts
+    private final int highestPowerOfTwo; // Largest power of two <= bucket count, where searches start
+    private int count;
+
+    /**
+     * @param initialCash The cash both bidders started with, the largest possible bid.
+     */
+    public OpponentBidDistribution(int initialCash) {
+        long bids = Math.max(1, (long) initialCash + 1);
+        this.bucketWidth = (int) ((bids + MAX_BUCKETS - 1) / MAX_BUCKETS);
+        int buckets = (int) ((bids + bucketWidth - 1) / bucketWidth);
+        this.tree = new int[buckets + 1];
+        this.highestPowerOfTwo = Integer.highestOneBit(buckets);
+    }
+
+    private OpponentBidDistribution(OpponentBidDistribution other) {
+        this.bucketWidth = other.bucketWidth;
+        this.tree = other.tree.clone();
+        this.highestPowerOfTwo = other.highestPowerOfTwo;
+        this.count = other.count;
+    }
+
+    public OpponentBidDistribution copy() {
+        return new OpponentBidDistribution(this);
+    }
+
+    /**
+     * Records an opponent bid. O(log buckets).
+     *
+     * @param bid The bid; values outside {@code [0, initialCash]} are counted at the nearest end.
+     */
+    public void add(int bid) {
+        int buckets = tree.length - 1;
+        for (int i = Math.clamp(bid / bucketWidth, 0, buckets - 1) + 1; i <= buckets; i += i & -i) {
+            tree[i]++;
+        }
+        count++;
+    }
+
+    /**
+     * @return The number of recorded bids.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Counts the recorded bids that a bid of {@code bid} beats. O(log buckets).
+     *
+     * @param bid The bid to compare with.
+     * @return The number of recorded bids strictly below {@code bid}.
+     */
+    public int countBelow(long bid) {
+        if (bid <= 0) {
+            return 0;
+        }
+        int sum = 0;
+        for (int i = (int) Math.min(tree.length - 1, bid / bucketWidth); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @param bid The bid to compare with.
+     * @return The share of recorded bids strictly below {@code bid}, or 0 if nothing was recorded.
+     */
+    public double winProbability(long bid) {
+        return count == 0 ? 0 : countBelow(bid) / (double) count;
+    }
+
+    /**
+     * Finds the smallest bid beating at least {@code bids} recorded bids, by descending the Fenwick
+     * tree instead of searching over bid values. O(log buckets).
+     *
+     * @param bids The number of recorded bids to beat.
+     * @return The bid, or -1 if fewer bids were recorded.
+     */
+    public long cheapestBidBeating(int bids) {
+        if (bids <= 0) {
+            return 0;
+        }
+        if (bids > count) {
+            return -1;
+        }
+        // Largest number of leading buckets holding fewer than 'bids' bids
+        int position = 0;
+        int remaining = bids;
+        for (int step = highestPowerOfTwo; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] < remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return (long) (position + 1) * bucketWidth; // Just above every bid in the next bucket
+    }
+}
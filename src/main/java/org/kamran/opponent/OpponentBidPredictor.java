@@ -0,0 +1,122 @@
+package org.kamran.opponent;
+
+import org.kamran.auction.AuctionState;
+
+/**
+ * {@code OpponentBidPredictor} is an online linear regression model that predicts the opponent's
+ * next bid from the current {@link AuctionState}.
+ * <p>
+ * Features, all scaled by the initial cash or quantity so the weights stay comparable:
+ * <ul>
+ *   <li>The opponent's remaining cash and per-round budget</li>
+ *   <li>Remaining rounds</li>
+ *   <li>Quantity gap between the opponent and us</li>
+ *   <li>The opponent's last {@value #RECENT_BIDS} bids</li>
+ * </ul>
+ * <p>
+ * Weights are trained with normalized least mean squares: every {@link #observe(AuctionState, int)}
+ * is a single O(features) gradient step. Weights, the feature vector and the recent bids live in
+ * preallocated primitive arrays, so neither observing nor predicting allocates.
+ *
+ * @see AuctionState#getOpponentBidPredictor()
+ */
+public class OpponentBidPredictor {
+
+    static final int RECENT_BIDS = 3;
+    private static final int FEATURES = 5 + RECENT_BIDS;
+    private static final double LEARNING_RATE = 0.5;
+    private static final double REGULARIZATION = 1e-3; // Keeps the normalized step finite for tiny feature vectors
+
+    private final double scale;
+    private final double[] weights = new double[FEATURES];
+    private final double[] features = new double[FEATURES];
+    private final int[] recentBids = new int[RECENT_BIDS]; // Ring buffer, newest at recentHead - 1
+    private int recentHead;
+    private int observationCount;
+
+    /**
+     * @param initialCash The cash both bidders started with, used to scale bids into [0, 1].
+     */
+    public OpponentBidPredictor(int initialCash) {
+        this.scale = Math.max(1, initialCash);
+    }
+
+    public OpponentBidPredictor copy() {
+        OpponentBidPredictor copy = new OpponentBidPredictor((int) scale);
+        System.arraycopy(weights, 0, copy.weights, 0, FEATURES);
+        System.arraycopy(recentBids, 0, copy.recentBids, 0, RECENT_BIDS);
+        copy.recentHead = recentHead;
+        copy.observationCount = observationCount;
+        return copy;
+    }
+
+    /**
+     * Trains the model on the opponent's actual bid. Must be called with the state as it was when
+     * the bid was placed, i.e. before cash and quantities are updated for the round.
+     *
+     * @param state       The auction state before the round is settled.
+     * @param opponentBid The bid the opponent placed.
+     */
+    public void observe(AuctionState state, int opponentBid) {
+        double normSquared = extractFeatures(state);
+        double error = opponentBid / scale - dot();
+        double step = LEARNING_RATE * error / (REGULARIZATION + normSquared);
+        for (int i = 0; i < FEATURES; i++) {
+            weights[i] += step * features[i];
+        }
+
+        recentBids[recentHead] = opponentBid;
+        recentHead = (recentHead + 1) % RECENT_BIDS;
+        observationCount++;
+    }
+
+    /**
+     * Predicts the opponent's bid for the upcoming round.
+     *
+     * @param state The current state of the auction.
+     * @return The predicted bid, between 0 and the opponent's remaining cash.
+     */
+    public int predict(AuctionState state) {
+        extractFeatures(state);
+        long predicted = Math.round(dot() * scale);
+        return (int) Math.clamp(predicted, 0L, (long) state.getOpponentCash());
+    }
+
+    /**
+     * @return {@code true} once enough bids have been observed to fill the recent-bid features.
+     */
+    public boolean isWarm() {
+        return observationCount > RECENT_BIDS;
+    }
+
+    public int getObservationCount() {
+        return observationCount;
+    }
+
+    private double extractFeatures(AuctionState state) {
+        int remainingRounds = state.getRemainingRounds();
+        features[0] = 1.0; // Bias
+        features[1] = state.getOpponentCash() / scale;
+        features[2] = state.getOpponentCash() / Math.max(1, remainingRounds) / scale;
+        features[3] = (double) remainingRounds / Math.max(1, (state.getInitialQuantity() + 1) / 2);
+        features[4] = (double) (state.getOpponentQuantityWon() - state.getOwnQuantityWon()) / Math.max(1, state.getInitialQuantity());
+        for (int k = 0; k < RECENT_BIDS; k++) {
+            int slot = Math.floorMod(recentHead - 1 - k, RECENT_BIDS);
+            features[5 + k] = k < observationCount ? recentBids[slot] / scale : 0.0;
+        }
+
+        double normSquared = 0;
+        for (double feature : features) {
+            normSquared += feature * feature;
+        }
+        return normSquared;
+    }
+
+    private double dot() {
+        double sum = 0;
+        for (int i = 0; i < FEATURES; i++) {
+            sum += weights[i] * features[i];
+        }
+        return sum;
+    }
+}
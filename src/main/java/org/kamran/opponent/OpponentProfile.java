@@ -0,0 +1,184 @@
+package org.kamran.opponent;
+
+import org.kamran.auction.AuctionState;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.OptionalInt;
+
+/**
+ * {@code OpponentProfile} holds compact statistics about how an opponent bids, so that what was
+ * learned in one match can warm up the next one against the same opponent.
+ * <p>
+ * Bids are not stored individually. Each observed bid is normalized by the opponent's per-round
+ * budget at the time of the bid ({@code opponentCash / remainingRounds}) and counted in one of
+ * {@value #BID_BUCKETS} buckets, once per round phase (early, mid, late) and once per cash ratio
+ * (opponent cash relative to own cash). Normalizing makes the profile transferable between
+ * auctions with different quantity and cash limits.
+ * <p>
+ * Instances are not thread-safe; {@link OpponentProfileStore} synchronizes on the profiles it
+ * shares.
+ *
+ * @see OpponentProfileStore
+ * @see AuctionState
+ */
+public class OpponentProfile {
+
+    static final int PHASES = 3;
+    static final int CASH_RATIO_BUCKETS = 4;
+    static final int BID_BUCKETS = 16;
+    private static final int BUCKETS_PER_BUDGET = 8; // Bucket width is 1/8 of the per-round budget, last bucket is open
+
+    private static final int MAGIC = 0x4F505046; // "OPPF"
+    private static final byte FORMAT_VERSION = 1;
+
+    private final int[] bidsByPhase = new int[PHASES * BID_BUCKETS];
+    private final int[] bidsByCashRatio = new int[CASH_RATIO_BUCKETS * BID_BUCKETS];
+    private int observationCount;
+
+    /**
+     * Records an opponent bid. Must be called with the state as it was when the bid was placed,
+     * i.e. before cash and quantities are updated for the round.
+     *
+     * @param state       The auction state before the round is settled.
+     * @param opponentBid The bid the opponent placed.
+     */
+    public void record(AuctionState state, int opponentBid) {
+        long budget = perRoundBudget(state);
+        if (budget <= 0) {
+            return; // Opponent had nothing to bid with, nothing to learn
+        }
+        int bucket = (int) Math.min(BID_BUCKETS - 1, (long) Math.max(0, opponentBid) * BUCKETS_PER_BUDGET / budget);
+        bidsByPhase[phaseOf(state) * BID_BUCKETS + bucket]++;
+        bidsByCashRatio[cashRatioOf(state) * BID_BUCKETS + bucket]++;
+        observationCount++;
+    }
+
+    /**
+     * Estimates the opponent's next bid from the bids observed in the same round phase and the
+     * same cash ratio.
+     *
+     * @param state The current state of the auction.
+     * @return The estimated bid, or empty if nothing comparable has been observed yet.
+     */
+    public OptionalInt estimateBid(AuctionState state) {
+        long budget = perRoundBudget(state);
+        if (budget <= 0) {
+            return OptionalInt.of(0);
+        }
+        int phaseOffset = phaseOf(state) * BID_BUCKETS;
+        int cashRatioOffset = cashRatioOf(state) * BID_BUCKETS;
+
+        long samples = 0;
+        double weightedBuckets = 0;
+        for (int bucket = 0; bucket < BID_BUCKETS; bucket++) {
+            int count = bidsByPhase[phaseOffset + bucket] + bidsByCashRatio[cashRatioOffset + bucket];
+            samples += count;
+            weightedBuckets += count * (bucket + 0.5);
+        }
+        if (samples == 0) {
+            return OptionalInt.empty();
+        }
+        double fractionOfBudget = weightedBuckets / samples / BUCKETS_PER_BUDGET;
+        return OptionalInt.of((int) Math.min(state.getOpponentCash(), Math.round(fractionOfBudget * budget)));
+    }
+
+    public int getObservationCount() {
+        return observationCount;
+    }
+
+    /**
+     * Adds all observations of {@code other} to this profile.
+     *
+     * @param other The profile to merge in.
+     */
+    public void merge(OpponentProfile other) {
+        for (int i = 0; i < bidsByPhase.length; i++) {
+            bidsByPhase[i] += other.bidsByPhase[i];
+        }
+        for (int i = 0; i < bidsByCashRatio.length; i++) {
+            bidsByCashRatio[i] += other.bidsByCashRatio[i];
+        }
+        observationCount += other.observationCount;
+    }
+
+    public OpponentProfile copy() {
+        OpponentProfile copy = new OpponentProfile();
+        copy.merge(this);
+        return copy;
+    }
+
+    // --- Compact binary format: header followed by variable-length encoded counters ---
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        writeVarInt(out, observationCount);
+        for (int count : bidsByPhase) {
+            writeVarInt(out, count);
+        }
+        for (int count : bidsByCashRatio) {
+            writeVarInt(out, count);
+        }
+    }
+
+    public static OpponentProfile readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an opponent profile");
+        }
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported opponent profile version: " + version);
+        }
+        OpponentProfile profile = new OpponentProfile();
+        profile.observationCount = readVarInt(in);
+        for (int i = 0; i < profile.bidsByPhase.length; i++) {
+            profile.bidsByPhase[i] = readVarInt(in);
+        }
+        for (int i = 0; i < profile.bidsByCashRatio.length; i++) {
+            profile.bidsByCashRatio[i] = readVarInt(in);
+        }
+        return profile;
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    // --- Feature bucketing ---
+
+    private static long perRoundBudget(AuctionState state) {
+        return state.getOpponentCash() / Math.max(1, state.getRemainingRounds());
+    }
+
+    private static int phaseOf(AuctionState state) {
+        int initialQuantity = Math.max(1, state.getInitialQuantity());
+        return (int) Math.min(PHASES - 1, (long) (initialQuantity - state.getRemainingQuantity()) * PHASES / initialQuantity);
+    }
+
+    private static int cashRatioOf(AuctionState state) {
+        long own = state.getOwnCash();
+        long opponent = state.getOpponentCash();
+        if (opponent * 2 < own) return 0;
+        if (opponent < own) return 1;
+        if (opponent < own * 2) return 2;
+        return 3;
+    }
+}
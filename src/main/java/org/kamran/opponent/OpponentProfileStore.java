@@ -0,0 +1,175 @@
+package org.kamran.opponent;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code OpponentProfileStore} keeps {@link OpponentProfile}s across matches, keyed by opponent
+ * identifier.
+ * <p>
+ * Recently used profiles are held in a bounded in-memory LRU cache; every profile is also written
+ * through to one small file per opponent in the store directory, so evicted profiles are simply
+ * read back on the next miss. All disk access happens on a single background thread:
+ * <ul>
+ *   <li>{@link #load(String)} never blocks the caller, a cache hit completes immediately</li>
+ *   <li>{@link #save(String, OpponentProfile)} merges a match's observations into the stored
+ *   profile, so concurrent matches against the same opponent do not overwrite each other</li>
+ * </ul>
+ *
+ * @see OpponentProfile
+ */
+public class OpponentProfileStore implements AutoCloseable {
+
+    private static final String FILE_SUFFIX = ".opp";
+
+    private final Path directory;
+    private final Map<String, OpponentProfile> cache;
+    private final ExecutorService io;
+
+    public OpponentProfileStore(Path directory, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        this.directory = directory;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OpponentProfile> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.io = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "opponent-profile-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the profile of an opponent. The returned profile is a private copy the caller may
+     * modify freely.
+     *
+     * @param opponentId The opponent identifier.
+     * @return A future completing with the stored profile, or an empty profile for an unknown
+     * opponent or an unreadable file.
+     */
+    public CompletableFuture<OpponentProfile> load(String opponentId) {
+        OpponentProfile cached;
+        synchronized (cache) {
+            cached = cache.get(opponentId);
+        }
+        if (cached != null) {
+            synchronized (cached) {
+                return CompletableFuture.completedFuture(cached.copy());
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            OpponentProfile stored = storedProfile(opponentId);
+            synchronized (stored) {
+                return stored.copy();
+            }
+        }, io);
+    }
+
+    /**
+     * Merges the observations of one match into the stored profile of an opponent and writes it
+     * to disk.
+     *
+     * @param opponentId   The opponent identifier.
+     * @param matchProfile Observations collected during the match only.
+     * @return A future completing once the profile has been written.
+     */
+    public CompletableFuture<Void> save(String opponentId, OpponentProfile matchProfile) {
+        OpponentProfile observations = matchProfile.copy();
+        return CompletableFuture.runAsync(() -> {
+            OpponentProfile stored = storedProfile(opponentId);
+            byte[] bytes;
+            synchronized (stored) {
+                stored.merge(observations);
+                bytes = serialize(stored);
+            }
+            write(opponentId, bytes);
+        }, io);
+    }
+
+    /**
+     * Waits for pending writes to finish and stops the background thread.
+     */
+    @Override
+    public void close() {
+        io.shutdown();
+        try {
+            io.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Only called on the io thread, so a miss is never read from disk twice concurrently.
+    private OpponentProfile storedProfile(String opponentId) {
+        synchronized (cache) {
+            OpponentProfile cached = cache.get(opponentId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        OpponentProfile stored = read(opponentId);
+        synchronized (cache) {
+            cache.put(opponentId, stored);
+        }
+        return stored;
+    }
+
+    private OpponentProfile read(String opponentId) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(fileOf(opponentId)))) {
+            return OpponentProfile.readFrom(new DataInputStream(in));
+        } catch (NoSuchFileException e) {
+            return new OpponentProfile();
+        } catch (IOException e) {
+            System.out.println("Could not read opponent profile for " + opponentId + ", starting cold: " + e.getMessage());
+            return new OpponentProfile();
+        }
+    }
+
+    private void write(String opponentId, byte[] bytes) {
+        try {
+            Files.createDirectories(directory);
+            Path target = fileOf(opponentId);
+            Path temp = Files.createTempFile(directory, "profile", ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write opponent profile for " + opponentId, e);
+        }
+    }
+
+    private static byte[] serialize(OpponentProfile profile) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            profile.writeTo(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory stream does not fail
+        }
+        return bytes.toByteArray();
+    }
+
+    private Path fileOf(String opponentId) {
+        return directory.resolve(URLEncoder.encode(opponentId, StandardCharsets.UTF_8) + FILE_SUFFIX);
+    }
+}
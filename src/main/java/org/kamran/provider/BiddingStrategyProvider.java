@@ -1,11 +1,15 @@
 package org.kamran.provider;
 
 import org.kamran.auction.AuctionState;
-import org.kamran.strategy.AdaptiveStrategy;
-import org.kamran.strategy.AggressiveStrategy;
+import org.kamran.auction.LargeAuctionState;
 import org.kamran.strategy.BiddingStrategy;
-import org.kamran.strategy.ConservativeStrategy;
-import org.kamran.strategy.ZeroBidStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * {@code BiddingStrategyProvider} is a factory utility responsible for selecting the most suitable
@@ -14,50 +18,111 @@ import org.kamran.strategy.ZeroBidStrategy;
  * This enables dynamic strategy switching during the auction, allowing the bot to adapt to changing
  * game conditions such as trailing in quantity or having a cash advantage.
  * <p>
+ * The selection rules are data, not code: they are read from the bundled {@code strategy-rules.txt}
+ * (or the file named by {@value #RULES_PROPERTY}) and compiled into a {@link DecisionTable}, which
+ * can be replaced at runtime with {@link #reloadRules(String)}.
+ * <p>
+ * The strategies the rules refer to are discovered with {@link java.util.ServiceLoader} and kept in a
+ * {@link StrategyRegistry}, where new or re-tuned strategies can be registered without a restart.
  */
 public class BiddingStrategyProvider {
 
+    /**
+     * System property naming a rule file to use instead of the bundled rules.
+     */
+    public static final String RULES_PROPERTY = "auction.rules";
+
+    private static final String DEFAULT_RULES = "strategy-rules.txt";
+
     private BiddingStrategyProvider() {
     }
 
-    private static final BiddingStrategy zeroBidStrategy = new ZeroBidStrategy();
-    private static final BiddingStrategy aggressiveStrategy = new AggressiveStrategy();
-    private static final BiddingStrategy conservativeStrategy = new ConservativeStrategy();
-    private static final BiddingStrategy adaptiveStrategy = new AdaptiveStrategy();
+    private static final StrategyRegistry registry = StrategyRegistry.discover(initialRules());
 
     /**
      * Determines and returns the appropriate bidding strategy based on the current auction state.
-     * This method encapsulates the selection logic.
+     * The selection logic is the currently loaded {@link DecisionTable}.
      *
      * @param state The current state of the auction.
      * @return {@link BiddingStrategy}
      */
     public static BiddingStrategy determineStrategy(AuctionState state) {
-        if (state.getOwnQuantityWon() >= state.getTargetQuantity()) {
-            return zeroBidStrategy;
-        }
+        return registry.select(state);
+    }
 
-        int maxOpponentCanWinTotal = state.getOpponentQuantityWon() + state.getRemainingQuantity();
-        if (maxOpponentCanWinTotal < state.getOwnQuantityWon() && state.getOwnQuantityWon() > 0) {
-            return zeroBidStrategy;
-        }
+    /**
+     * Determines the strategy for an auction beyond the {@code int} range, with the same rules as
+     * {@link #determineStrategy(AuctionState)}.
+     *
+     * @param state The current state of the auction.
+     * @return {@link BiddingStrategy}
+     */
+    public static BiddingStrategy determineStrategy(LargeAuctionState state) {
+        return registry.select(state);
+    }
 
-        int remainingRounds = state.getRemainingRounds();
+    /**
+     * @return The version of the current strategies and rules; it changes with every registration
+     * or reload, so results computed under an older version can be recognized as stale.
+     */
+    public static long getVersion() {
+        return registry.getSnapshot().version();
+    }
 
-        if (remainingRounds > 0 && remainingRounds <= state.getNeededQuantityToWin()) {
-            if (state.getOwnCash() > state.getOpponentCash() / 2 || state.getOwnCash() > state.getInitialCash() / 4) {
-                return aggressiveStrategy;
-            } else {
-                return adaptiveStrategy;
-            }
-        }
+    /**
+     * @return The registry behind this provider, to register or replace strategies at runtime.
+     */
+    public static StrategyRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Compiles new selection rules and swaps them in atomically. Bids being decided keep the table
+     * they started with; if the rules do not compile, the current table stays in place.
+     *
+     * @param source The rule text, see {@link DecisionTable}.
+     * @throws IllegalArgumentException If the rules are malformed.
+     */
+    public static void reloadRules(String source) {
+        registry.reloadRules(source);
+    }
+
+    /**
+     * Reads selection rules from a file and swaps them in atomically.
+     *
+     * @param file The rule file.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If the rules are malformed.
+     */
+    public static void reloadRules(Path file) throws IOException {
+        reloadRules(Files.readString(file));
+    }
+
+    /**
+     * Restores the rules bundled with the bot.
+     */
+    public static void resetRules() {
+        reloadRules(defaultRules());
+    }
 
-        if (state.getOwnCash() < state.getInitialCash() * 0.1 && state.getOwnCash() < 10) {
-            return conservativeStrategy;
+    private static String initialRules() {
+        String file = System.getProperty(RULES_PROPERTY);
+        try {
+            return file != null ? Files.readString(Path.of(file)) : defaultRules();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read strategy rules " + file, e);
         }
+    }
 
-        // Default strategy
-        return adaptiveStrategy;
+    private static String defaultRules() {
+        try (InputStream in = BiddingStrategyProvider.class.getResourceAsStream(DEFAULT_RULES)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing bundled strategy rules " + DEFAULT_RULES);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read bundled strategy rules", e);
+        }
     }
 
 }
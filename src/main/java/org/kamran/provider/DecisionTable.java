@@ -0,0 +1,190 @@
+package org.kamran.provider;
+
+import org.kamran.auction.AuctionState;
+import org.kamran.auction.LargeAuctionState;
+import org.kamran.strategy.BiddingStrategy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * {@code DecisionTable} is a compiled set of strategy selection rules.
+ * <p>
+ * Rules are plain text, one per line, checked top to bottom; the first rule whose conditions all
+ * hold picks the strategy:
+ * <pre>
+ * # Comments start with '#'
+ * when ownQuantityWon &gt;= targetQuantity use Zero bid
+ * when remainingRounds &lt;= neededQuantity and ownCash &gt; 0.5 * opponentCash use Aggressive
+ * otherwise use Adaptive
+ * </pre>
+ * A condition compares a feature of the {@link AuctionState} (see {@link RuleFeature}) with either a
+ * number, a feature, or {@code coefficient * feature}, using {@code < <= > >= == !=}. Strategies are
+ * referenced by {@link BiddingStrategy#getStrategyName()}. The last rule must be {@code otherwise}.
+ * <p>
+ * Compiling generates a class that checks the rules the way a hand-written if/else chain would
+ * (see {@link RuleCompiler}), so selecting a strategy costs no more than the chain the bundled rules
+ * replaced, with no parsing or allocation. Where rules cannot be compiled, as in a native image, they
+ * are interpreted instead (see {@link InterpretedTable}). A table is immutable and safe to share
+ * between threads.
+ *
+ * @see BiddingStrategyProvider
+ */
+public abstract class DecisionTable {
+
+    // Comparison operators as a mask over Double.compare(lhs, rhs) + 1
+    static final int LT = 1;
+    static final int EQ = 2;
+    static final int GT = 4;
+
+    private static final RuleFeature[] FEATURES = RuleFeature.values();
+
+    private final int ruleCount;
+
+    /**
+     * @param ruleCount The number of rules, including the {@code otherwise} rule.
+     */
+    DecisionTable(int ruleCount) {
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * Parses and compiles rules.
+     *
+     * @param source     The rule text.
+     * @param strategies Resolves strategy names, returning {@code null} for unknown names.
+     * @return {@link DecisionTable}
+     * @throws IllegalArgumentException If the rules are malformed; the message names the line.
+     */
+    public static DecisionTable compile(String source, Function<String, BiddingStrategy> strategies) {
+        List<Condition> conditions = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        List<BiddingStrategy> actions = new ArrayList<>();
+        boolean hasDefault = false;
+
+        String[] lines = source.split("\\R");
+        for (int number = 1; number <= lines.length; number++) {
+            String line = lines[number - 1].strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (hasDefault) {
+                throw error(number, "rule after 'otherwise' can never match");
+            }
+
+            int use = line.indexOf(" use ");
+            if (use < 0) {
+                throw error(number, "expected '... use <strategy>'");
+            }
+            String head = line.substring(0, use).strip();
+            String name = line.substring(use + 5).strip();
+            BiddingStrategy strategy = strategies.apply(name);
+            if (strategy == null) {
+                throw error(number, "unknown strategy '" + name + "'");
+            }
+
+            if (head.equals("otherwise")) {
+                hasDefault = true;
+            } else if (head.startsWith("when ")) {
+                for (String condition : head.substring(5).split(" and ")) {
+                    conditions.add(parseCondition(condition.strip(), number));
+                }
+            } else {
+                throw error(number, "expected 'when' or 'otherwise'");
+            }
+            ends.add(conditions.size());
+            actions.add(strategy);
+        }
+
+        if (!hasDefault) {
+            throw new IllegalArgumentException("Rules must end with an 'otherwise use <strategy>' line");
+        }
+        int[] ruleEnd = ends.stream().mapToInt(Integer::intValue).toArray();
+        BiddingStrategy[] selected = actions.toArray(new BiddingStrategy[0]);
+        return RuleCompiler.compile(conditions, ruleEnd, selected)
+                .orElseGet(() -> InterpretedTable.create(conditions, ruleEnd, selected));
+    }
+
+    private static Condition parseCondition(String text, int number) {
+        String[] tokens = text.split("\\s+");
+        if (tokens.length != 3 && !(tokens.length == 5 && tokens[3].equals("*"))) {
+            throw error(number, "expected '<feature> <op> <value>' but got '" + text + "'");
+        }
+        int lhs = feature(tokens[0], number);
+        int mask = switch (tokens[1]) {
+            case "<" -> LT;
+            case "<=" -> LT | EQ;
+            case ">" -> GT;
+            case ">=" -> GT | EQ;
+            case "==" -> EQ;
+            case "!=" -> LT | GT;
+            default -> throw error(number, "unknown operator '" + tokens[1] + "'");
+        };
+
+        if (tokens.length == 5) { // coefficient * feature
+            return new Condition(lhs, mask, feature(tokens[4], number), number(tokens[2], number), 0);
+        }
+        if (isFeature(tokens[2])) {
+            return new Condition(lhs, mask, feature(tokens[2], number), 1, 0);
+        }
+        return new Condition(lhs, mask, 0, 0, number(tokens[2], number)); // Constant: 0 * feature + value
+    }
+
+    private static boolean isFeature(String token) {
+        return !token.isEmpty() && Character.isLetter(token.charAt(0));
+    }
+
+    private static int feature(String token, int number) {
+        for (RuleFeature feature : FEATURES) {
+            if (feature.getName().equals(token)) {
+                return feature.ordinal();
+            }
+        }
+        throw error(number, "unknown feature '" + token + "'");
+    }
+
+    private static double number(String token, int number) {
+        try {
+            return Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            throw error(number, "not a number: '" + token + "'");
+        }
+    }
+
+    private static IllegalArgumentException error(int line, String message) {
+        return new IllegalArgumentException(String.format(Locale.ROOT, "Rule line %d: %s", line, message));
+    }
+
+    /**
+     * Selects the strategy of the first rule whose conditions all hold.
+     *
+     * @param state The current state of the auction.
+     * @return {@link BiddingStrategy}
+     */
+    public abstract BiddingStrategy select(AuctionState state);
+
+    /**
+     * Selects the strategy of the first rule whose conditions all hold, for auctions beyond the
+     * {@code int} range. The rules see the same features as for an {@link AuctionState}.
+     *
+     * @param state The current state of the auction.
+     * @return {@link BiddingStrategy}
+     */
+    public abstract BiddingStrategy select(LargeAuctionState state);
+
+    /**
+     * @return The number of rules, including the {@code otherwise} rule.
+     */
+    public final int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * {@code lhs mask (coefficient * rhs + constant)}, with features by ordinal.
+     */
+    record Condition(int lhs, int mask, int rhs, double coefficient, double constant) {
+    }
+}
@@ -0,0 +1,125 @@
+package org.kamran.provider;
+
+import org.kamran.auction.AuctionState;
+import org.kamran.auction.LargeAuctionState;
+import org.kamran.strategy.BiddingStrategy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * {@code InterpretedTable} is a {@link DecisionTable} whose rules are interpreted, where they cannot
+ * be compiled by {@link RuleCompiler}, as in a native image.
+ * <p>
+ * All conditions are flattened into parallel arrays, so selecting a strategy is one pass over a few
+ * primitive arrays with no parsing or allocation. Features are read only when a condition needs
+ * them, the remaining conditions of a rule are skipped as soon as one fails, and a condition shared
+ * by several rules is evaluated at most once per selection.
+ */
+final class InterpretedTable extends DecisionTable {
+
+    private static final RuleFeature[] FEATURES = RuleFeature.values();
+
+    private static final int MEMOIZED_CONDITIONS = Long.SIZE; // Results of the first 64 distinct conditions are kept per selection
+
+    // Distinct conditions
+    private final int[] lhs;
+    private final int[] rhs;
+    private final double[] coefficient;
+    private final double[] constant;
+    private final int[] mask;
+
+    private final int[] ruleConditions; // Index into the distinct conditions, rule by rule
+    private final int[] ruleEnd; // Rule r owns ruleConditions [ruleEnd[r - 1], ruleEnd[r])
+    private final BiddingStrategy[] strategies;
+
+    private InterpretedTable(List<Condition> conditions, int[] ruleEnd, BiddingStrategy[] strategies) {
+        super(strategies.length);
+        LinkedHashMap<Condition, Integer> distinct = new LinkedHashMap<>();
+        this.ruleConditions = new int[conditions.size()];
+        for (int i = 0; i < ruleConditions.length; i++) {
+            ruleConditions[i] = distinct.computeIfAbsent(conditions.get(i), condition -> distinct.size());
+        }
+        int size = distinct.size();
+        this.lhs = new int[size];
+        this.rhs = new int[size];
+        this.coefficient = new double[size];
+        this.constant = new double[size];
+        this.mask = new int[size];
+        distinct.forEach((condition, i) -> {
+            lhs[i] = condition.lhs();
+            rhs[i] = condition.rhs();
+            coefficient[i] = condition.coefficient();
+            constant[i] = condition.constant();
+            mask[i] = condition.mask();
+        });
+        this.ruleEnd = ruleEnd;
+        this.strategies = strategies;
+    }
+
+    /**
+     * @return {@link InterpretedTable}, typed as {@link DecisionTable} so that loading the table
+     * does not load this class where the rules are compiled.
+     */
+    static DecisionTable create(List<Condition> conditions, int[] ruleEnd, BiddingStrategy[] strategies) {
+        return new InterpretedTable(conditions, ruleEnd, strategies);
+    }
+
+    @Override
+    public BiddingStrategy select(AuctionState state) {
+        return strategies[matchingRule(state, null)];
+    }
+
+    @Override
+    public BiddingStrategy select(LargeAuctionState state) {
+        return strategies[matchingRule(null, state)];
+    }
+
+    /**
+     * @param state      The state to read features from, or {@code null} to read {@code largeState}.
+     * @param largeState The state to read features from if {@code state} is {@code null}.
+     * @return The index of the first rule whose conditions all hold.
+     */
+    private int matchingRule(AuctionState state, LargeAuctionState largeState) {
+        long evaluated = 0; // Bit c: memoized condition c has been evaluated in this selection
+        long held = 0; // Bit c: ... and it held
+        int i = 0;
+        for (int rule = 0; rule < strategies.length - 1; rule++) {
+            int end = ruleEnd[rule];
+            for (; i < end; i++) {
+                int condition = ruleConditions[i];
+                if (condition >= MEMOIZED_CONDITIONS) {
+                    if (!holds(condition, state, largeState)) {
+                        break;
+                    }
+                    continue;
+                }
+                long bit = 1L << condition;
+                if ((evaluated & bit) == 0) {
+                    evaluated |= bit;
+                    held |= holds(condition, state, largeState) ? bit : 0;
+                }
+                if ((held & bit) == 0) {
+                    break;
+                }
+            }
+            if (i == end) {
+                return rule;
+            }
+            i = end; // Skip the rest of a failed rule
+        }
+        return strategies.length - 1;
+    }
+
+    private boolean holds(int condition, AuctionState state, LargeAuctionState largeState) {
+        double left = feature(lhs[condition], state, largeState);
+        double right = coefficient[condition] == 0
+                ? constant[condition]
+                : coefficient[condition] * feature(rhs[condition], state, largeState) + constant[condition];
+        return (mask[condition] >>> (Double.compare(left, right) + 1) & 1) != 0;
+    }
+
+    private static double feature(int feature, AuctionState state, LargeAuctionState largeState) {
+        return state != null ? FEATURES[feature].of(state) : FEATURES[feature].of(largeState);
+    }
+}
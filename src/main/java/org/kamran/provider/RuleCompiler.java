@@ -0,0 +1,618 @@
+package org.kamran.provider;
+
+import org.kamran.strategy.BiddingStrategy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@code RuleCompiler} turns the rules of a {@link DecisionTable} into a hidden class, so the JIT
+ * compiles them like the hand-written if/else chain they replace.
+ * <p>
+ * The generated subclass of {@link DecisionTable} checks the rules top to bottom and returns the
+ * strategy of the first match from a static final field, which the JIT treats as a constant; the
+ * fields are filled from the hidden class data. Each condition calls the getters of its features
+ * directly, compares both sides, and jumps to the next rule as soon as one fails, past the
+ * conditions that are known to hold by then.
+ * <p>
+ * Comparisons are done in {@code double}, like {@link InterpretedTable} does, except that for an
+ * {@link org.kamran.auction.AuctionState} a condition whose numbers are whole, or become whole when
+ * both sides are scaled by a power of two (such as {@code 0.5 * opponentCash}), is compared in
+ * {@code int} or {@code long}, with the same result and as cheaply as a hand-written chain. The
+ * class file uses version 49, which the verifier checks without stack map frames, so a minimal class
+ * file writer is enough.
+ * <p>
+ * Rules are not compiled when classes cannot be defined at runtime (in a native image), or when the
+ * code would be too large for the JIT; they are then interpreted by {@link InterpretedTable}.
+ */
+final class RuleCompiler {
+
+    private static final String NAME = "org/kamran/provider/CompiledRules";
+    private static final String TABLE = "org/kamran/provider/DecisionTable";
+    private static final String STRATEGY = "Lorg/kamran/strategy/BiddingStrategy;";
+    private static final String STATE = "org/kamran/auction/AuctionState";
+    private static final String LARGE_STATE = "org/kamran/auction/LargeAuctionState";
+    private static final RuleFeature[] FEATURES = RuleFeature.values();
+
+    private static final int CLASS_VERSION = 49; // The last version without stack map frames
+    private static final int MAX_CODE_LENGTH = 8_000; // HotSpot does not compile larger methods
+    private static final int MAX_SCALE = 29; // Keeps lhs * 2^k of an int feature within a long
+
+    // Opcodes
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC2_W = 0x14;
+    private static final int LDC_W = 0x13;
+    private static final int ILOAD_1 = 0x1b;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int AALOAD = 0x32;
+    private static final int ASTORE_0 = 0x4b;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int LADD = 0x61;
+    private static final int DADD = 0x63;
+    private static final int LMUL = 0x69;
+    private static final int DMUL = 0x6b;
+    private static final int I2L = 0x85;
+    private static final int I2D = 0x87;
+    private static final int L2D = 0x8a;
+    private static final int LCMP = 0x94;
+    private static final int DCMPL = 0x97;
+    private static final int DCMPG = 0x98;
+    private static final int IFEQ = 0x99;
+    private static final int IFNE = 0x9a;
+    private static final int IFLT = 0x9b;
+    private static final int IFGE = 0x9c;
+    private static final int IFGT = 0x9d;
+    private static final int IFLE = 0x9e;
+    private static final int IF_ICMPEQ = 0x9f; // IF_ICMPxx follow in the order of IFxx
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int CHECKCAST = 0xc0;
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * Compiles rules into a new hidden class.
+     *
+     * @param conditions The conditions of all rules, rule by rule.
+     * @param ruleEnd    Rule {@code r} owns conditions {@code [ruleEnd[r - 1], ruleEnd[r])}; the last
+     *                   rule is {@code otherwise}.
+     * @param strategies The strategy of each rule.
+     * @return {@link DecisionTable}, or empty if the rules cannot or should not be compiled.
+     */
+    static Optional<DecisionTable> compile(List<DecisionTable.Condition> conditions, int[] ruleEnd,
+                                         BiddingStrategy[] strategies) {
+        if (System.getProperty("org.graalvm.nativeimage.imagecode") != null) {
+            return Optional.empty(); // Native images cannot define classes at runtime
+        }
+        ClassWriter writer = new ClassWriter();
+        byte[] forState = writer.matchingRule(conditions, ruleEnd, false);
+        byte[] forLargeState = writer.matchingRule(conditions, ruleEnd, true);
+        if (Math.max(forState.length, forLargeState.length) > MAX_CODE_LENGTH) {
+            return Optional.empty();
+        }
+        byte[] bytes = writer.write(forState, forLargeState, strategies.length);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(bytes, strategies.clone(), true);
+            return Optional.of((DecisionTable) lookup.findConstructor(lookup.lookupClass(),
+                    MethodType.methodType(void.class, int.class)).invoke(strategies.length));
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot define the compiled strategy rules", e);
+        }
+    }
+
+    /**
+     * Writes one class file: a static final field per rule, filled by the class initializer, a
+     * constructor and both {@code select} methods.
+     */
+    private static final class ClassWriter {
+
+        private final ByteArrayOutputStream constants = new ByteArrayOutputStream();
+        private final DataOutputStream pool = new DataOutputStream(constants);
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int nextIndex = 1;
+
+        byte[] write(byte[] forState, byte[] forLargeState, int rules) {
+            try {
+                int thisClass = classRef(NAME);
+                int superClass = classRef(TABLE);
+                int code = utf8("Code");
+                List<byte[]> methods = new ArrayList<>();
+                methods.add(method(0x0008, "<clinit>", "()V", code, 3, 1, classInitializer(rules))); // ACC_STATIC
+                methods.add(method(0x0001, "<init>", "(I)V", code, 2, 2, constructor())); // ACC_PUBLIC
+                methods.add(method(0x0001, "select", "(L" + STATE + ";)" + STRATEGY, code, 8, 2, forState));
+                methods.add(method(0x0001, "select", "(L" + LARGE_STATE + ";)" + STRATEGY, code, 8, 2, forLargeState));
+
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeInt(0xCAFEBABE);
+                out.writeShort(0);
+                out.writeShort(CLASS_VERSION);
+                out.writeShort(nextIndex);
+                constants.writeTo(out);
+                out.writeShort(0x0030); // ACC_FINAL | ACC_SUPER
+                out.writeShort(thisClass);
+                out.writeShort(superClass);
+                out.writeShort(0); // Interfaces
+                out.writeShort(rules);
+                for (int rule = 0; rule < rules; rule++) {
+                    out.writeShort(0x001a); // ACC_PRIVATE | ACC_STATIC | ACC_FINAL
+                    out.writeShort(utf8(ruleField(rule)));
+                    out.writeShort(utf8(STRATEGY));
+                    out.writeShort(0); // Attributes
+                }
+                out.writeShort(methods.size());
+                for (byte[] method : methods) {
+                    out.write(method);
+                }
+                out.writeShort(0); // Attributes
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // Cannot happen in memory
+            }
+        }
+
+        /**
+         * {@code rule<r> = strategies[r]} for every rule, where {@code strategies} is the class data:
+         * {@code MethodHandles.classData(MethodHandles.lookup(), "_", BiddingStrategy[].class)}.
+         */
+        private byte[] classInitializer(int rules) throws IOException {
+            Code code = new Code();
+            code.op(INVOKESTATIC);
+            code.u2(methodRef("java/lang/invoke/MethodHandles", "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;"));
+            code.op(LDC_W);
+            code.u2(string("_"));
+            code.op(LDC_W);
+            code.u2(classRef("[" + STRATEGY));
+            code.op(INVOKESTATIC);
+            code.u2(methodRef("java/lang/invoke/MethodHandles", "classData",
+                    "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"));
+            code.op(CHECKCAST);
+            code.u2(classRef("[" + STRATEGY));
+            code.op(ASTORE_0);
+            for (int rule = 0; rule < rules; rule++) {
+                code.op(ALOAD_0);
+                pushInt(code, rule);
+                code.op(AALOAD);
+                code.op(PUTSTATIC);
+                code.u2(fieldRef(ruleField(rule)));
+            }
+            code.op(RETURN);
+            return code.toByteArray();
+        }
+
+        private static String ruleField(int rule) {
+            return "rule" + rule;
+        }
+
+        private byte[] constructor() throws IOException {
+            Code code = new Code();
+            code.op(ALOAD_0);
+            code.op(ILOAD_1);
+            code.op(INVOKESPECIAL);
+            code.u2(methodRef(TABLE, "<init>", "(I)V"));
+            code.op(RETURN);
+            return code.toByteArray();
+        }
+
+        /**
+         * Per rule: every condition jumps to its {@link #failureTarget} if it fails, then the rule's
+         * strategy is returned.
+         * <p>
+         * Code positions are kept per step: condition {@code i} of rule {@code r} is step {@code i + r},
+         * and the return of rule {@code r} is step {@code ruleEnd[r] + r}.
+         */
+        byte[] matchingRule(List<DecisionTable.Condition> conditions, int[] ruleEnd, boolean large) {
+            try {
+                Code code = new Code();
+                int[] stepPosition = new int[conditions.size() + ruleEnd.length];
+                List<int[]> jumps = new ArrayList<>(); // Position of a jump and its target step
+                int i = 0;
+                for (int rule = 0; rule < ruleEnd.length; rule++) {
+                    for (; i < ruleEnd[rule]; i++) {
+                        stepPosition[i + rule] = code.length();
+                        int jump = comparison(code, conditions.get(i), large);
+                        jumps.add(new int[]{jump, failureTarget(conditions, ruleEnd, rule, i)});
+                    }
+                    stepPosition[i + rule] = code.length();
+                    code.op(GETSTATIC);
+                    code.u2(fieldRef(ruleField(rule)));
+                    code.op(ARETURN);
+                }
+                for (int[] jump : jumps) {
+                    code.patch(jump[0] + 1, stepPosition[jump[1]] - jump[0]);
+                }
+                return code.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // Cannot happen in memory
+            }
+        }
+
+        /**
+         * Where to continue when a condition fails: the conditions of its rule checked before it hold
+         * and are not checked again, and a rule that needs the failed condition is skipped. For the
+         * bundled critical-round rules this gives the nested checks of a hand-written chain.
+         *
+         * @param failed The index of the failed condition in {@code conditions}.
+         * @return The step to jump to, see {@link #matchingRule}.
+         */
+        private static int failureTarget(List<DecisionTable.Condition> conditions, int[] ruleEnd, int rule, int failed) {
+            List<DecisionTable.Condition> held = conditions.subList(rule == 0 ? 0 : ruleEnd[rule - 1], failed);
+            for (int next = rule + 1; ; next++) { // Ends at the 'otherwise' rule, which has no conditions
+                int i = ruleEnd[next - 1];
+                while (i < ruleEnd[next] && held.contains(conditions.get(i))) {
+                    i++;
+                }
+                if (i == ruleEnd[next] || !conditions.get(i).equals(conditions.get(failed))) {
+                    return i + next;
+                }
+            }
+        }
+
+        /**
+         * @return The power of two {@code k} that makes the coefficient and the constant whole numbers,
+         * small enough that {@code lhs * 2^k} and {@code (coefficient * rhs + constant) * 2^k} are exact
+         * in {@code long} and the unscaled sides exact in {@code double}, so both compare alike; or
+         * {@code -1}. {@code int} features, and sums of two, stay below {@code 2^33}.
+         */
+        private static int wholeScale(DecisionTable.Condition condition) {
+            for (int k = 0; k <= MAX_SCALE; k++) {
+                double coefficient = condition.coefficient() * (1L << k); // Exact: scaled by a power of two
+                double constant = condition.constant() * (1L << k);
+                if (coefficient == Math.rint(coefficient) && constant == Math.rint(constant)) {
+                    return Math.abs(coefficient) < 0x1p19 && Math.abs(constant) < 0x1p52 ? k : -1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return Whether the condition compares a single {@code int} getter with another one or with
+         * an {@code int} constant.
+         */
+        private static boolean isInt(DecisionTable.Condition condition) {
+            return wholeScale(condition) == 0 && FEATURES[condition.lhs()].getters().length == 1 && (condition.coefficient() == 0
+                    ? condition.constant() == (int) condition.constant()
+                    : FEATURES[condition.rhs()].getters().length == 1 && condition.constant() == 0);
+        }
+
+        /**
+         * Writes the comparison and the jump taken when it does not hold, in {@code int} if
+         * {@link #isInt}, else in {@code long} if it has a {@link #wholeScale}, else in {@code double}.
+         *
+         * @return The position of the jump, to patch its target.
+         */
+        private int comparison(Code code, DecisionTable.Condition condition, boolean large) throws IOException {
+            if (!large && isInt(condition)) {
+                code.op(ALOAD_1);
+                code.op(INVOKEVIRTUAL);
+                code.u2(methodRef(STATE, FEATURES[condition.lhs()].getters()[0], "()I"));
+                if (condition.coefficient() == 0) {
+                    pushInt(code, (int) condition.constant());
+                } else {
+                    code.op(ALOAD_1);
+                    code.op(INVOKEVIRTUAL);
+                    code.u2(methodRef(STATE, FEATURES[condition.rhs()].getters()[0], "()I"));
+                }
+                int jump = code.length();
+                code.op(failureJump(condition.mask()) + IF_ICMPEQ - IFEQ);
+                code.u2(0); // Patched by the caller
+                return jump;
+            }
+            int scale = large ? -1 : wholeScale(condition);
+            if (scale >= 0) {
+                wholeComparison(code, condition, scale);
+            } else {
+                doubleComparison(code, condition, large);
+            }
+            int jump = code.length();
+            code.op(failureJump(condition.mask()));
+            code.u2(0); // Patched by the caller
+            return jump;
+        }
+
+        /**
+         * Pushes {@code lcmp(lhs * 2^k, (coefficient * rhs + constant) * 2^k)} of an
+         * {@link org.kamran.auction.AuctionState}, e.g. {@code ownCash * 2} and {@code opponentCash}
+         * for {@code ownCash > 0.5 * opponentCash}.
+         */
+        private void wholeComparison(Code code, DecisionTable.Condition condition, int scale) throws IOException {
+            long coefficient = (long) (condition.coefficient() * (1L << scale));
+            long constant = (long) (condition.constant() * (1L << scale));
+            wholeFeature(code, condition.lhs());
+            if (scale > 0) {
+                constant(code, 1L << scale);
+                code.op(LMUL);
+            }
+            if (coefficient == 0) {
+                constant(code, constant);
+            } else {
+                wholeFeature(code, condition.rhs());
+                if (coefficient != 1) {
+                    constant(code, coefficient);
+                    code.op(LMUL);
+                }
+                if (constant != 0) {
+                    constant(code, constant);
+                    code.op(LADD);
+                }
+            }
+            code.op(LCMP);
+        }
+
+        /**
+         * Pushes {@code lhs} compared with {@code coefficient * rhs + constant} the way javac does:
+         * {@code dcmpg} for {@code <} and {@code <=}, else {@code dcmpl}, so that NaN fails the condition
+         * and C2 turns the comparison and the jump into a single floating point branch.
+         */
+        private void doubleComparison(Code code, DecisionTable.Condition condition, boolean large) throws IOException {
+            feature(code, condition.lhs(), large);
+            if (condition.coefficient() == 0) {
+                constant(code, condition.constant());
+            } else {
+                feature(code, condition.rhs(), large);
+                if (condition.coefficient() != 1) {
+                    constant(code, condition.coefficient());
+                    code.op(DMUL);
+                }
+                if (condition.constant() != 0) {
+                    constant(code, condition.constant());
+                    code.op(DADD);
+                }
+            }
+            boolean less = condition.mask() == DecisionTable.LT || condition.mask() == (DecisionTable.LT | DecisionTable.EQ);
+            code.op(less ? DCMPG : DCMPL);
+        }
+
+        /**
+         * @return The jump taken on the comparison of {@code lhs} and {@code rhs} when it does not hold.
+         */
+        private static int failureJump(int mask) {
+            return switch (mask) {
+                case DecisionTable.LT -> IFGE;
+                case DecisionTable.LT | DecisionTable.EQ -> IFGT;
+                case DecisionTable.GT -> IFLE;
+                case DecisionTable.GT | DecisionTable.EQ -> IFLT;
+                case DecisionTable.EQ -> IFNE;
+                case DecisionTable.LT | DecisionTable.GT -> IFEQ;
+                default -> throw new IllegalArgumentException("Unknown comparison mask " + mask);
+            };
+        }
+
+        private void feature(Code code, int feature, boolean large) throws IOException {
+            String[] getters = FEATURES[feature].getters();
+            for (int i = 0; i < getters.length; i++) {
+                code.op(ALOAD_1);
+                code.op(INVOKEVIRTUAL);
+                code.u2(methodRef(large ? LARGE_STATE : STATE, getters[i], large ? "()J" : "()I"));
+                code.op(large ? L2D : I2D);
+                if (i > 0) {
+                    code.op(DADD);
+                }
+            }
+        }
+
+        private void wholeFeature(Code code, int feature) throws IOException {
+            String[] getters = FEATURES[feature].getters();
+            for (int i = 0; i < getters.length; i++) {
+                code.op(ALOAD_1);
+                code.op(INVOKEVIRTUAL);
+                code.u2(methodRef(STATE, getters[i], "()I"));
+                code.op(I2L);
+                if (i > 0) {
+                    code.op(LADD);
+                }
+            }
+        }
+
+        private void constant(Code code, double value) throws IOException {
+            code.op(LDC2_W);
+            code.u2(doubleConstant(value));
+        }
+
+        private void constant(Code code, long value) throws IOException {
+            code.op(LDC2_W);
+            code.u2(longConstant(value));
+        }
+
+        private void pushInt(Code code, int value) throws IOException {
+            if (value >= -1 && value <= 5) {
+                code.op(ICONST_0 + value);
+            } else if (value == (byte) value) {
+                code.op(BIPUSH);
+                code.op(value);
+            } else if (value == (short) value) {
+                code.op(SIPUSH);
+                code.u2(value);
+            } else {
+                code.op(LDC_W);
+                code.u2(intConstant(value));
+            }
+        }
+
+        private byte[] method(int access, String name, String descriptor, int codeName, int maxStack, int maxLocals,
+                              byte[] code) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(codeName);
+            out.writeInt(12 + code.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0); // Exception table
+            out.writeShort(0); // Attributes
+            return bytes.toByteArray();
+        }
+
+        private int utf8(String value) throws IOException {
+            Integer index = indexes.get("Utf8 " + value);
+            if (index != null) {
+                return index;
+            }
+            pool.writeByte(1);
+            pool.writeUTF(value);
+            return add("Utf8 " + value, 1);
+        }
+
+        private int classRef(String name) throws IOException {
+            Integer index = indexes.get("Class " + name);
+            if (index != null) {
+                return index;
+            }
+            int nameIndex = utf8(name);
+            pool.writeByte(7);
+            pool.writeShort(nameIndex);
+            return add("Class " + name, 1);
+        }
+
+        private int string(String value) throws IOException {
+            Integer index = indexes.get("String " + value);
+            if (index != null) {
+                return index;
+            }
+            int valueIndex = utf8(value);
+            pool.writeByte(8);
+            pool.writeShort(valueIndex);
+            return add("String " + value, 1);
+        }
+
+        private int fieldRef(String name) throws IOException {
+            String key = "Fieldref " + name;
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            int ownerIndex = classRef(NAME);
+            int nameAndType = nameAndType(name, STRATEGY);
+            pool.writeByte(9);
+            pool.writeShort(ownerIndex);
+            pool.writeShort(nameAndType);
+            return add(key, 1);
+        }
+
+        private int methodRef(String owner, String name, String descriptor) throws IOException {
+            String key = "Methodref " + owner + "." + name + descriptor;
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            int ownerIndex = classRef(owner);
+            int nameAndType = nameAndType(name, descriptor);
+            pool.writeByte(10);
+            pool.writeShort(ownerIndex);
+            pool.writeShort(nameAndType);
+            return add(key, 1);
+        }
+
+        private int nameAndType(String name, String descriptor) throws IOException {
+            String key = "NameAndType " + name + descriptor;
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            pool.writeByte(12);
+            pool.writeShort(nameIndex);
+            pool.writeShort(descriptorIndex);
+            return add(key, 1);
+        }
+
+        private int doubleConstant(double value) throws IOException {
+            String key = "Double " + Double.doubleToLongBits(value);
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            pool.writeByte(6);
+            pool.writeDouble(value);
+            return add(key, 2); // Doubles take two entries
+        }
+
+        private int intConstant(int value) throws IOException {
+            String key = "Integer " + value;
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            pool.writeByte(3);
+            pool.writeInt(value);
+            return add(key, 1);
+        }
+
+        private int longConstant(long value) throws IOException {
+            String key = "Long " + value;
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            pool.writeByte(5);
+            pool.writeLong(value);
+            return add(key, 2); // Longs take two entries
+        }
+
+        private int add(String key, int entries) {
+            int index = nextIndex;
+            nextIndex += entries;
+            indexes.put(key, index);
+            return index;
+        }
+    }
+
+    /**
+     * The bytecode of one method, with jump offsets patched in place.
+     */
+    private static final class Code {
+
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        void op(int value) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, 2 * length);
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        void u2(int value) {
+            op(value >>> 8);
+            op(value);
+        }
+
+        void patch(int position, int value) {
+            bytes[position] = (byte) (value >>> 8);
+            bytes[position + 1] = (byte) value;
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.kamran.provider;
+
+import org.kamran.auction.AuctionState;
+import org.kamran.auction.LargeAuctionState;
+
+/**
+ * {@code RuleFeature} lists the {@link AuctionState} values that strategy selection rules can test.
+ *
+ * @see DecisionTable
+ */
+public enum RuleFeature {
+    OWN_QUANTITY_WON("ownQuantityWon", "getOwnQuantityWon"),
+    OPPONENT_QUANTITY_WON("opponentQuantityWon", "getOpponentQuantityWon"),
+    OPPONENT_MAX_QUANTITY("opponentMaxQuantity", "getOpponentQuantityWon", "getRemainingQuantity"), // Opponent's won quantity plus everything still on sale
+    REMAINING_QUANTITY("remainingQuantity", "getRemainingQuantity"),
+    REMAINING_ROUNDS("remainingRounds", "getRemainingRounds"),
+    TARGET_QUANTITY("targetQuantity", "getTargetQuantity"),
+    NEEDED_QUANTITY("neededQuantity", "getNeededQuantityToWin"),
+    OWN_CASH("ownCash", "getOwnCash"),
+    OPPONENT_CASH("opponentCash", "getOpponentCash"),
+    INITIAL_CASH("initialCash", "getInitialCash"),
+    INITIAL_QUANTITY("initialQuantity", "getInitialQuantity");
+
+    private final String name;
+    private final String[] getters;
+
+    RuleFeature(String name, String... getters) {
+        this.name = name;
+        this.getters = getters;
+    }
+
+    /**
+     * @return The name used in rule text.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The getters of {@link AuctionState} and {@link LargeAuctionState} whose sum is this
+     * feature, for {@link RuleCompiler}.
+     */
+    String[] getters() {
+        return getters.clone();
+    }
+
+    /**
+     * Reads this feature of the state.
+     */
+    double of(AuctionState state) {
+        return switch (this) {
+            case OWN_QUANTITY_WON -> state.getOwnQuantityWon();
+            case OPPONENT_QUANTITY_WON -> state.getOpponentQuantityWon();
+            case OPPONENT_MAX_QUANTITY -> (double) state.getOpponentQuantityWon() + state.getRemainingQuantity();
+            case REMAINING_QUANTITY -> state.getRemainingQuantity();
+            case REMAINING_ROUNDS -> state.getRemainingRounds();
+            case TARGET_QUANTITY -> state.getTargetQuantity();
+            case NEEDED_QUANTITY -> state.getNeededQuantityToWin();
+            case OWN_CASH -> state.getOwnCash();
+            case OPPONENT_CASH -> state.getOpponentCash();
+            case INITIAL_CASH -> state.getInitialCash();
+            case INITIAL_QUANTITY -> state.getInitialQuantity();
+        };
+    }
+
+    /**
+     * Reads this feature of a state beyond the {@code int} range.
+     */
+    double of(LargeAuctionState state) {
+        return switch (this) {
+            case OWN_QUANTITY_WON -> state.getOwnQuantityWon();
+            case OPPONENT_QUANTITY_WON -> state.getOpponentQuantityWon();
+            case OPPONENT_MAX_QUANTITY -> (double) state.getOpponentQuantityWon() + state.getRemainingQuantity();
+            case REMAINING_QUANTITY -> state.getRemainingQuantity();
+            case REMAINING_ROUNDS -> state.getRemainingRounds();
+            case TARGET_QUANTITY -> state.getTargetQuantity();
+            case NEEDED_QUANTITY -> state.getNeededQuantityToWin();
+            case OWN_CASH -> state.getOwnCash();
+            case OPPONENT_CASH -> state.getOpponentCash();
+            case INITIAL_CASH -> state.getInitialCash();
+            case INITIAL_QUANTITY -> state.getInitialQuantity();
+        };
+    }
+}
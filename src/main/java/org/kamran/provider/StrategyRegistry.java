@@ -0,0 +1,202 @@
+package org.kamran.provider;
+
+import org.kamran.auction.AuctionState;
+import org.kamran.auction.LargeAuctionState;
+import org.kamran.strategy.BiddingStrategy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@code StrategyRegistry} holds the strategies that selection rules can refer to, together with the
+ * {@link DecisionTable} compiled against them.
+ * <p>
+ * Strategies come from two places:
+ * <ul>
+ *   <li>{@link ServiceLoader} discovery of {@link BiddingStrategy} implementations listed in
+ *   {@code META-INF/services/org.kamran.strategy.BiddingStrategy}, see {@link #discover(String)}</li>
+ *   <li>{@link #register(BiddingStrategy)} at runtime, which adds a strategy or replaces the one
+ *   with the same {@link BiddingStrategy#getStrategyName()}, e.g. with re-tuned parameters</li>
+ * </ul>
+ * The whole configuration is one immutable {@link Snapshot} in a single volatile field, swapped by
+ * compare-and-set:
+ * <ul>
+ *   <li>{@link #select(AuctionState)} does one volatile read and never locks or waits</li>
+ *   <li>Changes build and compile a new snapshot first and publish it with a single swap, so a
+ *   selection sees either the old or the new strategies and rules, never a mix of both</li>
+ *   <li>Concurrent changes retry against the latest snapshot instead of overwriting each other</li>
+ *   <li>A change whose rules do not compile is rejected and leaves the current snapshot in place</li>
+ * </ul>
+ *
+ * @see BiddingStrategyProvider#getRegistry()
+ */
+public final class StrategyRegistry {
+
+    /**
+     * One immutable configuration: the strategies by name, the rule text and its compiled table.
+     *
+     * @param version Increases by one with every published change.
+     */
+    public record Snapshot(long version, Map<String, BiddingStrategy> strategies, String rules, DecisionTable decisionTable) {
+    }
+
+    private static final VarHandle SNAPSHOT;
+
+    static {
+        try {
+            SNAPSHOT = MethodHandles.lookup().findVarHandle(StrategyRegistry.class, "snapshot", Snapshot.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Snapshot snapshot; // Read directly on every selection, one hop less than an AtomicReference
+
+    /**
+     * @param strategies The initial strategies, with distinct names.
+     * @param rules      The initial selection rules, see {@link DecisionTable}.
+     * @throws IllegalArgumentException If two strategies share a name or the rules are malformed.
+     */
+    public StrategyRegistry(Collection<? extends BiddingStrategy> strategies, String rules) {
+        Map<String, BiddingStrategy> byName = new HashMap<>();
+        for (BiddingStrategy strategy : strategies) {
+            if (byName.putIfAbsent(name(strategy), strategy) != null) {
+                throw new IllegalArgumentException("Duplicate strategy name: " + strategy.getStrategyName());
+            }
+        }
+        this.snapshot = compile(0, byName, rules);
+    }
+
+    /**
+     * Creates a registry of all strategies found by {@link ServiceLoader}.
+     *
+     * @param rules The initial selection rules, see {@link DecisionTable}.
+     * @return {@link StrategyRegistry}
+     * @throws IllegalArgumentException If two strategies share a name or the rules are malformed.
+     */
+    public static StrategyRegistry discover(String rules) {
+        List<BiddingStrategy> strategies = new ArrayList<>();
+        ServiceLoader.load(BiddingStrategy.class, StrategyRegistry.class.getClassLoader()).forEach(strategies::add);
+        return new StrategyRegistry(strategies, rules);
+    }
+
+    /**
+     * Selects a strategy with the current decision table.
+     *
+     * @param state The current state of the auction.
+     * @return {@link BiddingStrategy}
+     */
+    public BiddingStrategy select(AuctionState state) {
+        return snapshot.decisionTable().select(state);
+    }
+
+    /**
+     * Selects a strategy with the current decision table, for auctions beyond the {@code int} range.
+     *
+     * @param state The current state of the auction.
+     * @return {@link BiddingStrategy}
+     */
+    public BiddingStrategy select(LargeAuctionState state) {
+        return snapshot.decisionTable().select(state);
+    }
+
+    /**
+     * @return The current configuration; it never changes, later changes publish a new one.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @param name A strategy name.
+     * @return The currently registered strategy with this name, if any.
+     */
+    public Optional<BiddingStrategy> getStrategy(String name) {
+        return Optional.ofNullable(snapshot.strategies().get(name));
+    }
+
+    /**
+     * @return The names of the currently registered strategies.
+     */
+    public Set<String> getStrategyNames() {
+        return snapshot.strategies().keySet();
+    }
+
+    /**
+     * Adds a strategy, or replaces the registered strategy with the same name. The current rules are
+     * recompiled so that they refer to the new instance.
+     *
+     * @param strategy The strategy to register.
+     * @return The published snapshot.
+     * @throws IllegalArgumentException If the strategy has no name.
+     */
+    public Snapshot register(BiddingStrategy strategy) {
+        String name = name(strategy);
+        return update(current -> {
+            Map<String, BiddingStrategy> strategies = new HashMap<>(current.strategies());
+            strategies.put(name, strategy);
+            return compile(current.version() + 1, strategies, current.rules());
+        });
+    }
+
+    /**
+     * Removes a strategy.
+     *
+     * @param name The name of the strategy to remove.
+     * @return The published snapshot.
+     * @throws IllegalArgumentException If no such strategy is registered or the current rules use it.
+     */
+    public Snapshot unregister(String name) {
+        return update(current -> {
+            if (!current.strategies().containsKey(name)) {
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+            }
+            Map<String, BiddingStrategy> strategies = new HashMap<>(current.strategies());
+            strategies.remove(name);
+            return compile(current.version() + 1, strategies, current.rules());
+        });
+    }
+
+    /**
+     * Compiles new selection rules against the registered strategies and publishes them.
+     *
+     * @param rules The rule text, see {@link DecisionTable}.
+     * @return The published snapshot.
+     * @throws IllegalArgumentException If the rules are malformed.
+     */
+    public Snapshot reloadRules(String rules) {
+        return update(current -> compile(current.version() + 1, current.strategies(), rules));
+    }
+
+    private Snapshot update(UnaryOperator<Snapshot> change) {
+        while (true) {
+            Snapshot current = snapshot;
+            Snapshot next = change.apply(current); // Compiled outside of any lock; throws before publishing
+            if (SNAPSHOT.compareAndSet(this, current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static Snapshot compile(long version, Map<String, BiddingStrategy> strategies, String rules) {
+        Map<String, BiddingStrategy> frozen = Map.copyOf(strategies);
+        return new Snapshot(version, frozen, rules, DecisionTable.compile(rules, frozen::get));
+    }
+
+    private static String name(BiddingStrategy strategy) {
+        String name = strategy.getStrategyName();
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Strategy has no name: " + strategy.getClass().getName());
+        }
+        return name;
+    }
+}
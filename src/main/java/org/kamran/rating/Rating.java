@@ -0,0 +1,29 @@
+package org.kamran.rating;
+
+/**
+ * {@code Rating} is a point-in-time Glicko rating of a player.
+ *
+ * @param playerId  the player identifier
+ * @param rating    the rating estimate
+ * @param deviation the rating deviation (RD), i.e. the uncertainty of the estimate
+ * @param matches   the number of matches rated so far
+ * @see RatingService
+ */
+public record Rating(String playerId, double rating, double deviation, long matches) {
+
+    private static final double Z_95 = 1.96;
+
+    /**
+     * @return The lower end of the 95% confidence interval of the rating.
+     */
+    public double lowerBound() {
+        return rating - Z_95 * deviation;
+    }
+
+    /**
+     * @return The upper end of the 95% confidence interval of the rating.
+     */
+    public double upperBound() {
+        return rating + Z_95 * deviation;
+    }
+}
@@ -0,0 +1,136 @@
+package org.kamran.rating;
+
+import org.kamran.auction.AuctionOutcome;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code RatingService} maintains Glicko ratings of tournament players (strategies or external
+ * bidders) and updates them incrementally as match results stream in.
+ * <p>
+ * Every match is treated as its own Glicko rating period:
+ * <ul>
+ *   <li>Recording a match is O(1) and only touches the two players involved</li>
+ *   <li>Matches between disjoint pairs of players are rated concurrently</li>
+ *   <li>Memory grows with the number of players, never with the number of results</li>
+ * </ul>
+ * Before each match a player's deviation grows by {@code deviationGrowth}, so ratings of players
+ * that keep changing strength do not freeze.
+ *
+ * @see Rating
+ * @see AuctionOutcome
+ */
+public class RatingService {
+
+    public static final double DEFAULT_RATING = 1500;
+    public static final double DEFAULT_DEVIATION = 350;
+    public static final double DEFAULT_DEVIATION_GROWTH = 10;
+
+    private static final double Q = Math.log(10) / 400;
+    private static final double MIN_DEVIATION = 30; // Keeps long-running players responsive
+
+    private final double deviationGrowthSquared;
+    private final ConcurrentMap<String, PlayerRating> players = new ConcurrentHashMap<>();
+
+    public RatingService() {
+        this(DEFAULT_DEVIATION_GROWTH);
+    }
+
+    /**
+     * @param deviationGrowth How much a player's deviation grows per match before it is rated
+     *                        (Glicko's {@code c}).
+     */
+    public RatingService(double deviationGrowth) {
+        this.deviationGrowthSquared = deviationGrowth * deviationGrowth;
+    }
+
+    /**
+     * Records the result of a single auction.
+     *
+     * @param playerId   The player whose point of view {@code outcome} is from.
+     * @param opponentId The other player.
+     * @param outcome    The outcome of the auction for {@code playerId}.
+     */
+    public void recordMatch(String playerId, String opponentId, AuctionOutcome outcome) {
+        recordMatch(playerId, opponentId, outcome.getScore());
+    }
+
+    /**
+     * Records the result of a single match.
+     *
+     * @param playerId   The first player.
+     * @param opponentId The second player.
+     * @param score      The first player's score: {@code 1} win, {@code 0.5} tie, {@code 0} loss.
+     */
+    public void recordMatch(String playerId, String opponentId, double score) {
+        if (playerId.equals(opponentId)) {
+            throw new IllegalArgumentException("A player cannot be rated against itself: " + playerId);
+        }
+        PlayerRating player = players.computeIfAbsent(playerId, id -> new PlayerRating());
+        PlayerRating opponent = players.computeIfAbsent(opponentId, id -> new PlayerRating());
+
+        // Lock in a global order so two matches between the same players cannot deadlock
+        boolean playerFirst = playerId.compareTo(opponentId) < 0;
+        PlayerRating first = playerFirst ? player : opponent;
+        PlayerRating second = playerFirst ? opponent : player;
+        synchronized (first) {
+            synchronized (second) {
+                player.inflateDeviation(deviationGrowthSquared);
+                opponent.inflateDeviation(deviationGrowthSquared);
+                double playerRating = player.rating;
+                double playerDeviation = player.deviation;
+                player.update(opponent.rating, opponent.deviation, score);
+                opponent.update(playerRating, playerDeviation, 1 - score);
+            }
+        }
+    }
+
+    public Optional<Rating> getRating(String playerId) {
+        PlayerRating player = players.get(playerId);
+        return player == null ? Optional.empty() : Optional.of(player.snapshot(playerId));
+    }
+
+    /**
+     * @return All players, best first, ranked by the lower bound of their rating so that players
+     * with few matches do not top the table by luck.
+     */
+    public List<Rating> leaderboard() {
+        List<Rating> ratings = new ArrayList<>(players.size());
+        players.forEach((id, player) -> ratings.add(player.snapshot(id)));
+        ratings.sort(Comparator.comparingDouble(Rating::lowerBound).reversed());
+        return ratings;
+    }
+
+    private static double g(double deviation) {
+        return 1 / Math.sqrt(1 + 3 * Q * Q * deviation * deviation / (Math.PI * Math.PI));
+    }
+
+    private static final class PlayerRating {
+        private double rating = DEFAULT_RATING;
+        private double deviation = DEFAULT_DEVIATION;
+        private long matches;
+
+        void inflateDeviation(double growthSquared) {
+            deviation = Math.min(DEFAULT_DEVIATION, Math.sqrt(deviation * deviation + growthSquared));
+        }
+
+        void update(double opponentRating, double opponentDeviation, double score) {
+            double g = g(opponentDeviation);
+            double expected = 1 / (1 + Math.pow(10, -g * (rating - opponentRating) / 400));
+            double dSquaredInverse = Q * Q * g * g * expected * (1 - expected);
+            double precision = 1 / (deviation * deviation) + dSquaredInverse;
+            rating += Q / precision * g * (score - expected);
+            deviation = Math.max(MIN_DEVIATION, Math.sqrt(1 / precision));
+            matches++;
+        }
+
+        synchronized Rating snapshot(String playerId) {
+            return new Rating(playerId, rating, deviation, matches);
+        }
+    }
+}
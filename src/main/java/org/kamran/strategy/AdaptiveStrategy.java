@@ -2,6 +2,7 @@ package org.kamran.strategy;
 
 import org.kamran.auction.AuctionState;
 
+import java.util.OptionalInt;
 import java.util.Random;
 
 /**
@@ -13,6 +14,7 @@ import java.util.Random;
  *   <li>Increases bid slightly if trailing in quantity and has more cash</li>
  *   <li>Decreases bid slightly if leading, to conserve cash</li>
  *   <li>Maintains a balanced bid otherwise</li>
+ *   <li>Caps bids at the {@link BudgetPlanner}'s spend for the round once it has a plan</li>
  * </ul>
  * <p>
  * This strategy attempts to balance risk and reward by reacting to both current score and
@@ -23,7 +25,18 @@ import java.util.Random;
  */
 public class AdaptiveStrategy implements BiddingStrategy {
 
-    private final Random random = new Random();
+    private final Random random;
+
+    public AdaptiveStrategy() {
+        this(new Random());
+    }
+
+    /**
+     * @param random Source of the small random factor added to bids, e.g. seeded for reproducible matches.
+     */
+    public AdaptiveStrategy(Random random) {
+        this.random = random;
+    }
 
     @Override
     public int calculateBid(AuctionState state) {
@@ -33,27 +46,41 @@ public class AdaptiveStrategy implements BiddingStrategy {
         int neededQU = state.getNeededQuantityToWin();
         int remainingRounds = state.getRemainingRounds();
 
-        // Basic opponent modeling
-        double avgOpponentBid = state.getOpponentBidsHistory().stream()
-                .mapToInt(Integer::intValue)
-                .average().orElseGet(() -> (double) state.getOpponentCash() / Math.max(1, remainingRounds));
-        int estimatedOpponentBid = (int) Math.ceil(avgOpponentBid);
+        // Opponent modeling: the online predictor once it has seen enough bids, otherwise the plain
+        // average, falling back to what earlier matches taught us about this opponent
+        double expectedOpponentBid;
+        if (state.getOpponentBidPredictor().isWarm()) {
+            expectedOpponentBid = state.getOpponentBidPredictor().predict(state);
+        } else {
+            expectedOpponentBid = state.getOpponentBidsHistory().stream()
+                    .mapToInt(Integer::intValue)
+                    .average().orElseGet(() -> {
+                        OptionalInt profileEstimate = state.getOpponentProfile().estimateBid(state);
+                        return profileEstimate.isPresent()
+                                ? profileEstimate.getAsInt()
+                                : (double) state.getOpponentCash() / Math.max(1, remainingRounds);
+                    });
+        }
+        int estimatedOpponentBid = (int) Math.ceil(expectedOpponentBid);
         estimatedOpponentBid = Math.min(estimatedOpponentBid, state.getOpponentCash()); // Cap at opponent's current cash
 
+        // Per-round budget: the optimal spend schedule once the planner has a plan, otherwise an even split
+        OptionalInt plannedBid = state.getBudgetPlanner().plannedBid(state);
+
         int bid;
 
         // If critically need quantity and few rounds left, bid more aggressively
         if (remainingRounds <= neededQU && remainingRounds > 0) {
             // Try to win this round, bid above estimated opponent bid
             bid = estimatedOpponentBid + 1 + random.nextInt(state.getOwnCash() / Math.max(1, remainingRounds * 2) + 1);
-            bid = Math.min(bid, state.getOwnCash() / remainingRounds); // Don't blow entire budget in one go if multiple critical rounds
+            bid = Math.min(bid, plannedBid.orElse(state.getOwnCash() / remainingRounds)); // Don't blow entire budget in one go if multiple critical rounds
             bid = Math.max(1, bid); // Must bid at least 1 if trying to win
             System.out.println("Adaptive: Critical round, bidding: " + bid);
         } else {
             // Standard bid: Aim for a calculated value, potentially slightly above average opponent bid
             // Or bid a fraction of what we can afford per round.
-            int affordableBid = state.getOwnCash() / Math.max(1, remainingRounds);
-            bid = Math.min(affordableBid / 2, estimatedOpponentBid + 1 + random.nextInt(3));
+            int affordableBid = plannedBid.orElse(state.getOwnCash() / Math.max(1, remainingRounds) / 2);
+            bid = Math.min(affordableBid, estimatedOpponentBid + 1 + random.nextInt(3));
             System.out.println("Adaptive: Standard round, bidding: " + bid);
         }
 
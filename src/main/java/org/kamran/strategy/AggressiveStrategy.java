@@ -8,35 +8,54 @@ import java.util.Random;
  * {@code AggressiveStrategy} prioritizes winning quantity, even at the cost of higher spending.
  * <p>
  * <p>
- * Bids significantly higher than estimated opponent to secure quantity.
+ * Bids significantly higher than estimated opponent to secure quantity, and at least enough to beat
+ * {@value #WIN_PROBABILITY} of the opponent's bids so far (see {@link BidOptimizer}).
  *
  * @see BiddingStrategy
  * @see AuctionState
  */
 public class AggressiveStrategy implements BiddingStrategy {
 
-    private final Random random = new Random();
+    private static final double WIN_PROBABILITY = 0.8;
+
+    private final Random random;
+
+    public AggressiveStrategy() {
+        this(new Random());
+    }
+
+    /**
+     * @param random Source of the small random factor added to bids, e.g. seeded for reproducible matches.
+     */
+    public AggressiveStrategy(Random random) {
+        this.random = random;
+    }
 
     @Override
     public int calculateBid(AuctionState state) {
         if (state.getOwnCash() == 0) return 0;
 
         int estimatedOpponentBid;
-        if (!state.getOpponentBidsHistory().isEmpty()) {
+        if (state.getOpponentBidPredictor().isWarm()) {
+            estimatedOpponentBid = state.getOpponentBidPredictor().predict(state);
+        } else if (!state.getOpponentBidsHistory().isEmpty()) {
             estimatedOpponentBid = (int) state.getOpponentBidsHistory().stream()
                     .mapToInt(Integer::intValue)
                     .average().orElse(0.0);
         } else {
-            estimatedOpponentBid = state.getOpponentCash() / Math.max(1, state.getRemainingRounds()) / 2;
+            estimatedOpponentBid = state.getOpponentProfile().estimateBid(state)
+                    .orElse(state.getOpponentCash() / Math.max(1, state.getRemainingRounds()) / 2);
         }
         estimatedOpponentBid = Math.min(estimatedOpponentBid, state.getOpponentCash()); // Cannot bid more than they have
 
         int bid = estimatedOpponentBid + 1 + random.nextInt(3); // Bid slightly more + small random factor
+        bid = Math.max(bid, BidOptimizer.cheapestBidWinningWith(state, WIN_PROBABILITY).orElse(0)); // Beat most of their past bids
 
         // If very few rounds left and need quantity, be more aggressive
         if (state.getRemainingRounds() <= 2 && state.getNeededQuantityToWin() > 0) {
             bid = Math.max(bid, state.getOpponentCash() / Math.max(1, state.getRemainingRounds()) + 1);
-            bid = Math.max(bid, state.getOwnCash() / Math.max(1, state.getRemainingRounds())); // Spend more if needed
+            bid = Math.max(bid, state.getBudgetPlanner().plannedBid(state)
+                    .orElse(state.getOwnCash() / Math.max(1, state.getRemainingRounds()))); // Spend more if needed
         }
 
 
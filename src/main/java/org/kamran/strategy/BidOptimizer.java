@@ -0,0 +1,77 @@
+package org.kamran.strategy;
+
+import org.kamran.auction.AuctionState;
+import org.kamran.opponent.OpponentBidDistribution;
+
+import java.util.OptionalInt;
+
+/**
+ * {@code BidOptimizer} turns the opponent's bid distribution into bids with a known trade-off
+ * between the chance of winning the round and the cash spent, for use by any {@link BiddingStrategy}.
+ * <p>
+ * Both queries run in O(log cash) on the {@link OpponentBidDistribution} of the auction state:
+ * <ul>
+ *   <li>{@link #cheapestBidWinningWith(AuctionState, double)}: the smallest bid that beats the
+ *   opponent with a given probability</li>
+ *   <li>{@link #bestValueBid(AuctionState)}: the bid with the highest expected quantity per cash
+ *   among the cheapest bids reaching each of {@value #QUANTILES} evenly spaced win probabilities</li>
+ * </ul>
+ * Ties are counted as lost, since both bidders pay and only one QU each is won.
+ *
+ * @see AuctionState#getOpponentBidDistribution()
+ */
+public final class BidOptimizer {
+
+    static final int QUANTILES = 16;
+
+    private BidOptimizer() {
+    }
+
+    /**
+     * Finds the cheapest bid that beats the opponent's next bid with at least the given probability,
+     * judging by the bids observed so far.
+     *
+     * @param state       The current state of the auction.
+     * @param probability The required win probability, in (0, 1].
+     * @return The bid, or empty if no bids were observed yet or the bid exceeds the remaining cash.
+     */
+    public static OptionalInt cheapestBidWinningWith(AuctionState state, double probability) {
+        OpponentBidDistribution distribution = state.getOpponentBidDistribution();
+        if (distribution.getCount() == 0) {
+            return OptionalInt.empty();
+        }
+        int bids = (int) Math.ceil(Math.clamp(probability, 0, 1) * distribution.getCount());
+        long bid = distribution.cheapestBidBeating(bids);
+        return bid < 0 || bid > state.getOwnCash() ? OptionalInt.empty() : OptionalInt.of((int) bid);
+    }
+
+    /**
+     * Finds the affordable bid with the highest expected quantity won per cash spent.
+     *
+     * @param state The current state of the auction.
+     * @return The bid, or empty if no bids were observed yet or no positive bid is affordable.
+     */
+    public static OptionalInt bestValueBid(AuctionState state) {
+        OpponentBidDistribution distribution = state.getOpponentBidDistribution();
+        int observed = distribution.getCount();
+        if (observed == 0) {
+            return OptionalInt.empty();
+        }
+        int quantity = Math.min(2, state.getRemainingQuantity());
+
+        long bestBid = -1;
+        double bestValue = 0;
+        for (int quantile = 1; quantile <= QUANTILES; quantile++) {
+            long bid = distribution.cheapestBidBeating((int) Math.ceil(observed * quantile / (double) QUANTILES));
+            if (bid <= 0 || bid > state.getOwnCash() || bid == bestBid) {
+                continue;
+            }
+            double value = quantity * distribution.winProbability(bid) / bid;
+            if (value > bestValue) {
+                bestValue = value;
+                bestBid = bid;
+            }
+        }
+        return bestBid < 0 ? OptionalInt.empty() : OptionalInt.of((int) bestBid);
+    }
+}
@@ -0,0 +1,343 @@
+package org.kamran.strategy;
+
+import org.kamran.auction.AuctionState;
+import org.kamran.opponent.OpponentBidDistribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+/**
+ * {@code BudgetPlanner} spreads the remaining cash over the remaining rounds so that the probability
+ * of reaching {@link AuctionState#getTargetQuantity()} is maximized against the opponent's observed bids.
+ * <p>
+ * The cash left when a plan is made is discretized into {@value #BUDGET_UNITS} units. The planner
+ * solves the dynamic program
+ * <pre>
+ * P(r, k, b) = max over s &lt;= b of  win(s) * P(r - 1, k - 1, b - s) + (1 - win(s)) * P(r - 1, k, b - s)
+ * </pre>
+ * where {@code r} is the number of rounds left, {@code k} the number of rounds still to win, {@code b}
+ * the budget left and {@code win(s)} the share of the opponent's bids so far that a spend of {@code s}
+ * units beats, read from {@link AuctionState#getOpponentBidDistribution()}.
+ * Both bidders pay their bid every round, so the spend is deducted whether the round is won or not.
+ * Only spends that win more often than every cheaper spend are tried, since more budget never hurts.
+ * <p>
+ * Row {@code r} only depends on row {@code r - 1} and the opponent model, never on the current round,
+ * so solved rows stay valid while the game moves on:
+ * <ul>
+ *   <li>Rows are solved lazily, only up to the current number of remaining rounds</li>
+ *   <li>They are only re-solved when the opponent model drifts by more than {@value #TOLERANCE}
+ *   in win probability; otherwise a round costs an O(units log cash) model check and one table lookup</li>
+ *   <li>Re-solving is spread over several rounds, about {@value #WORK_PER_QUERY} cell updates per
+ *   query, while the previous table keeps answering</li>
+ *   <li>Solved rows are never modified, so {@link #copy()} shares them instead of copying</li>
+ * </ul>
+ * Every won round costs at least one unit, so the planner only engages once at most
+ * {@value #BUDGET_UNITS} rounds are still to be won, within the last {@value #MAX_PLANNED_ROUNDS} rounds
+ * and after {@value #MIN_OBSERVATIONS} opponent bids; until then strategies keep their own heuristics.
+ *
+ * @see AuctionState#getBudgetPlanner()
+ */
+public class BudgetPlanner {
+
+    static final int BUDGET_UNITS = 32;
+    static final int MAX_PLANNED_ROUNDS = 256;
+    static final int MIN_OBSERVATIONS = 3;
+    static final double TOLERANCE = 0.05;
+    static final int WORK_PER_QUERY = 4_096;
+
+    private static final double EPSILON = 1e-6; // Plans this close are equally good
+
+    private Table active; // Answers queries; complete for every round reached since it was promoted
+    private Table pending; // Being solved against a newer opponent model
+    private long solvedRowCount;
+
+    public BudgetPlanner() {
+    }
+
+    private BudgetPlanner(BudgetPlanner other) {
+        this.active = other.active;
+        this.pending = other.pending == null ? null : other.pending.copy();
+        this.solvedRowCount = other.solvedRowCount;
+    }
+
+    public BudgetPlanner copy() {
+        return new BudgetPlanner(this);
+    }
+
+    /**
+     * Returns the spend for this round according to the optimal schedule.
+     *
+     * @param state The current state of the auction.
+     * @return The bid to place, or empty if the planner has no plan for this state yet or no plan
+     * gives any chance of reaching the target.
+     */
+    public OptionalInt plannedBid(AuctionState state) {
+        int cell = solve(state);
+        if (cell < 0) {
+            return OptionalInt.empty();
+        }
+        int rounds = state.getRemainingRounds();
+        if (active.value(rounds, cell) <= 0) {
+            return OptionalInt.empty();
+        }
+        int spend = active.bestSpend(rounds, cell);
+        return OptionalInt.of((int) Math.min(state.getOwnCash(), active.cash(spend)));
+    }
+
+    /**
+     * Returns the probability of reaching the target when following the plan from this state.
+     *
+     * @param state The current state of the auction.
+     * @return The probability, or empty if the planner has no plan for this state yet.
+     */
+    public OptionalDouble successProbability(AuctionState state) {
+        int cell = solve(state);
+        return cell < 0 ? OptionalDouble.empty() : OptionalDouble.of(active.value(state.getRemainingRounds(), cell));
+    }
+
+    /**
+     * @return The number of DP rows solved so far, to observe how often rows are reused.
+     */
+    public long getSolvedRowCount() {
+        return solvedRowCount;
+    }
+
+    /**
+     * Revalidates the plan against the current model and advances any pending solve.
+     *
+     * @return The index of the state's cell in its row of the active table, or -1 if there is none.
+     */
+    private int solve(AuctionState state) {
+        OpponentBidDistribution opponentBids = state.getOpponentBidDistribution();
+        int rounds = state.getRemainingRounds();
+        if (opponentBids.getCount() < MIN_OBSERVATIONS || rounds <= 0 || rounds > MAX_PLANNED_ROUNDS) {
+            return -1;
+        }
+        int neededRounds = Math.max(0, (state.getNeededQuantityToWin() + 1) / 2);
+        if (neededRounds > BUDGET_UNITS) {
+            return -1;
+        }
+
+        Table latest = pending != null ? pending : active;
+        if (latest == null || !latest.covers(rounds, neededRounds)
+            || maxDifference(winProbability(opponentBids, latest.unit), latest.winProbability) > TOLERANCE) {
+            // Cash, rounds and needed rounds never grow during an auction, so the current values bound all future rows
+            double unit = Math.max(1.0, state.getOwnCash() / (double) BUDGET_UNITS);
+            pending = new Table(unit, winProbability(opponentBids, unit), rounds, neededRounds);
+            solvedRowCount++; // Its first row
+        }
+        if (pending != null) {
+            solvedRowCount += pending.solve(rounds);
+            if (pending.values.size() > rounds) {
+                active = pending;
+                pending = null;
+            }
+        }
+
+        if (active == null || active.values.size() <= rounds || !active.covers(rounds, neededRounds)) {
+            return -1;
+        }
+        int budget = (int) Math.min(BUDGET_UNITS, state.getOwnCash() / active.unit);
+        return neededRounds * (BUDGET_UNITS + 1) + budget;
+    }
+
+    /**
+     * @return For each spend in units, the share of observed bids it beats.
+     */
+    private static double[] winProbability(OpponentBidDistribution opponentBids, double unit) {
+        double[] winProbability = new double[BUDGET_UNITS + 1];
+        for (int spend = 1; spend <= BUDGET_UNITS; spend++) {
+            winProbability[spend] = opponentBids.winProbability((long) Math.ceil(spend * unit));
+        }
+        return winProbability;
+    }
+
+    private static double maxDifference(double[] a, double[] b) {
+        double max = 0;
+        for (int i = 0; i < a.length; i++) {
+            max = Math.max(max, Math.abs(a[i] - b[i]));
+        }
+        return max;
+    }
+
+    private static int[] candidateSpends(double[] winProbability) {
+        int[] candidates = new int[winProbability.length];
+        int count = 0;
+        candidates[count++] = 0;
+        for (int spend = 1; spend < winProbability.length; spend++) {
+            if (winProbability[spend] > winProbability[candidates[count - 1]]) {
+                candidates[count++] = spend;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * DP rows solved against one opponent model, for the states reachable from the one it was created
+     * for. Every round lowers the rounds left by one and the rounds still to win by at most one, so
+     * row {@code r} only holds {@code P(r, k, b)} for {@code k} from {@link #lowestLevel(int)} to
+     * {@link #highestLevel(int)}, at index {@code (k - lowestLevel(r)) * (BUDGET_UNITS + 1) + b}.
+     * The best spend of a cell is not stored but recomputed from row {@code r - 1} when a bid is
+     * asked for. Both keep the rows, which stay alive for the rest of the auction, small.
+     */
+    private static final class Table {
+        private final double unit; // Cash per budget unit
+        private final double[] winProbability;
+        private final int[] candidateSpends;
+        private final int[] candidatesWithin; // Number of candidate spends up to each budget
+        private final int roundsLimit;
+        private final int neededRoundsLimit;
+        private final List<float[]> values;
+
+        Table(double unit, double[] winProbability, int roundsLimit, int neededRoundsLimit) {
+            this.unit = unit;
+            this.winProbability = winProbability;
+            this.candidateSpends = candidateSpends(winProbability);
+            this.candidatesWithin = new int[BUDGET_UNITS + 1];
+            for (int budget = 0, count = 0; budget <= BUDGET_UNITS; budget++) {
+                while (count < candidateSpends.length && candidateSpends[count] <= budget) {
+                    count++;
+                }
+                candidatesWithin[budget] = count;
+            }
+            this.roundsLimit = roundsLimit;
+            this.neededRoundsLimit = neededRoundsLimit;
+            this.values = new ArrayList<>();
+
+            float[] first = new float[BUDGET_UNITS + 1];
+            Arrays.fill(first, 1); // Nothing left to win
+            values.add(first);
+        }
+
+        private Table(Table other) {
+            this.unit = other.unit;
+            this.winProbability = other.winProbability;
+            this.candidateSpends = other.candidateSpends;
+            this.candidatesWithin = other.candidatesWithin;
+            this.roundsLimit = other.roundsLimit;
+            this.neededRoundsLimit = other.neededRoundsLimit;
+            this.values = new ArrayList<>(other.values);
+        }
+
+        Table copy() {
+            return new Table(this);
+        }
+
+        /**
+         * @return Whether a state with these rounds left and to win is reachable from the one this table was created for.
+         */
+        boolean covers(int rounds, int neededRounds) {
+            return rounds <= roundsLimit && neededRounds <= neededRoundsLimit && neededRounds >= lowestLevel(rounds);
+        }
+
+        private int lowestLevel(int rounds) {
+            return Math.max(0, Math.min(neededRoundsLimit, roundsLimit) - (roundsLimit - rounds));
+        }
+
+        private int highestLevel(int rounds) {
+            return Math.min(rounds, neededRoundsLimit);
+        }
+
+        /**
+         * @return The smallest bid worth the given number of units.
+         */
+        long cash(int spend) {
+            return (long) Math.ceil(spend * unit);
+        }
+
+        /**
+         * @return {@code P(rounds, k, b)} for the cell of {@code k} and {@code b}.
+         */
+        double value(int rounds, int cell) {
+            int width = BUDGET_UNITS + 1;
+            return value(values.get(rounds), rounds, cell / width, cell % width);
+        }
+
+        /**
+         * @return The best spend in units for the cell of {@code k} and {@code b} in row {@code rounds}.
+         */
+        int bestSpend(int rounds, int cell) {
+            int width = BUDGET_UNITS + 1;
+            return cell < width ? 0 : bestSpend(values.get(rounds - 1), rounds - 1, cell / width, cell % width);
+        }
+
+        /**
+         * Solves further rows up to {@code rounds}, stopping once the work budget of this query is spent.
+         *
+         * @return The number of rows solved by this call.
+         */
+        int solve(int rounds) {
+            int work = 0;
+            int solvedRows = 0;
+            while (values.size() <= rounds && work < WORK_PER_QUERY) {
+                work += addRow();
+                solvedRows++;
+            }
+            return solvedRows;
+        }
+
+        private int addRow() {
+            int rounds = values.size();
+            int width = BUDGET_UNITS + 1;
+            int lowest = lowestLevel(rounds);
+            float[] previous = values.get(rounds - 1);
+            float[] row = new float[(highestLevel(rounds) - lowest + 1) * width];
+            int work = 0;
+
+            for (int needed = lowest; needed <= highestLevel(rounds); needed++) {
+                int cell = (needed - lowest) * width;
+                for (int budget = 0; budget < width; budget++) {
+                    if (needed == 0) {
+                        row[cell + budget] = 1; // Nothing left to win
+                        work++;
+                        continue;
+                    }
+                    int spend = bestSpend(previous, rounds - 1, needed, budget);
+                    row[cell + budget] = (float) expectedValue(previous, rounds - 1, needed, budget, spend);
+                    work += candidatesWithin[budget];
+                }
+            }
+            values.add(row);
+            return work;
+        }
+
+        /**
+         * @return The spend maximizing {@link #expectedValue}; among equally good plans the one that
+         * tries to win now rather than later.
+         */
+        private int bestSpend(float[] previous, int previousRounds, int needed, int budget) {
+            double[] win = winProbability;
+            double best = -1;
+            int bestSpend = 0;
+            for (int s : candidateSpends) {
+                if (s > budget) {
+                    break;
+                }
+                double value = expectedValue(previous, previousRounds, needed, budget, s);
+                if (value > best + EPSILON) {
+                    best = value;
+                    bestSpend = s;
+                } else if (value > best - EPSILON && win[s] > win[bestSpend]) {
+                    bestSpend = s;
+                }
+            }
+            return bestSpend;
+        }
+
+        private double expectedValue(float[] previous, int previousRounds, int needed, int budget, int spend) {
+            double win = winProbability[spend];
+            return win * value(previous, previousRounds, needed - 1, budget - spend)
+                   + (1 - win) * value(previous, previousRounds, needed, budget - spend);
+        }
+
+        private float value(float[] row, int rounds, int needed, int budget) {
+            if (needed > highestLevel(rounds)) {
+                return 0; // More rounds to win than are left
+            }
+            return row[(needed - lowestLevel(rounds)) * (BUDGET_UNITS + 1) + budget];
+        }
+    }
+}
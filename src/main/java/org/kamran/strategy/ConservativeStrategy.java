@@ -8,20 +8,39 @@ import java.util.Random;
  * {@code ConservativeStrategy} focuses on preserving cash and bidding cautiously.
  * <p>
  * <p>
- * Bids a small percentage of remaining cash, or a small fixed value. Ideal for defensive play and
- * long-term sustainability.
+ * Bids a small percentage of remaining cash, or a small fixed value, preferring the bid with the best
+ * expected quantity per cash when it fits an even share of the cash over the remaining rounds. Ideal for defensive play and long-term
+ * sustainability.
  *
  * @see BiddingStrategy
  * @see AuctionState
  */
 public class ConservativeStrategy implements BiddingStrategy {
 
-    private final Random random = new Random();
+    private final Random random;
+
+    public ConservativeStrategy() {
+        this(new Random());
+    }
+
+    /**
+     * @param random Source of the small random factor added to bids, e.g. seeded for reproducible matches.
+     */
+    public ConservativeStrategy(Random random) {
+        this.random = random;
+    }
 
     @Override
     public int calculateBid(AuctionState state) {
         if (state.getOwnCash() == 0) return 0;
-        int bid = Math.min(state.getOwnCash() / 10, 5 + random.nextInt(5));
+        int cap = state.getOwnCash() / 10;
+        // The bid with the best quantity per cash against this opponent, if it fits an even share of
+        // the cash over the remaining rounds; this share stays above zero when less than 10 MU are left
+        int share = Math.max(cap, state.getOwnCash() / Math.max(1, state.getRemainingRounds()));
+        int bid = BidOptimizer.bestValueBid(state).stream()
+                .filter(valueBid -> valueBid <= share)
+                .findFirst()
+                .orElseGet(() -> Math.min(cap, 5 + random.nextInt(5)));
         return Math.clamp(bid, 0, state.getOwnCash());
     }
 
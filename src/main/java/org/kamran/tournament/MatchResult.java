@@ -0,0 +1,17 @@
+package org.kamran.tournament;
+
+import org.kamran.auction.AuctionOutcome;
+
+/**
+ * {@code MatchResult} is the final score of one auction.
+ *
+ * @param spec      the match that was played
+ * @param outcomeA  the outcome from the first participant's point of view
+ * @param quantityA quantity won by the first participant
+ * @param quantityB quantity won by the second participant
+ * @param cashA     cash left to the first participant
+ * @param cashB     cash left to the second participant
+ * @see MatchRunner
+ */
+public record MatchResult(MatchSpec spec, AuctionOutcome outcomeA, int quantityA, int quantityB, int cashA, int cashB) {
+}
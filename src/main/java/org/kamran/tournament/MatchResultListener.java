@@ -0,0 +1,15 @@
+package org.kamran.tournament;
+
+/**
+ * {@code MatchResultListener} receives the results of a tournament as shards complete.
+ * <p>
+ * The {@link TournamentCoordinator} calls it exactly once per match, from one thread at a time,
+ * even when a shard was retried or played twice because of work stealing.
+ *
+ * @see TournamentStandings
+ */
+@FunctionalInterface
+public interface MatchResultListener {
+
+    void onResult(MatchResult result);
+}
@@ -0,0 +1,63 @@
+package org.kamran.tournament;
+
+import org.kamran.auction.AuctionOutcome;
+import org.kamran.auction.AuctionState;
+import org.kamran.auction.Bidder;
+
+/**
+ * {@code MatchRunner} referees an auction between two {@link Bidder}s.
+ * <p>
+ * The referee keeps its own {@link AuctionState} from the first bidder's point of view. A bid
+ * outside {@code [0, remaining cash]} is clamped into that range before both bidders are told the
+ * result, so a misbehaving bidder cannot overspend.
+ */
+public final class MatchRunner {
+
+    private MatchRunner() {
+    }
+
+    /**
+     * Plays a match between two participants created by {@link Participants}.
+     *
+     * @param spec The match to play.
+     * @return {@link MatchResult}
+     */
+    public static MatchResult play(MatchSpec spec) {
+        Bidder a = Participants.create(spec.playerA(), spec.seed());
+        Bidder b = Participants.create(spec.playerB(), spec.seed() * 31 + 17); // Independent of A's seed
+        return play(spec, a, b);
+    }
+
+    /**
+     * Plays a match between two given bidders.
+     *
+     * @param spec The match to play; only quantity and cash are used.
+     * @param a    The first bidder.
+     * @param b    The second bidder.
+     * @return {@link MatchResult}
+     */
+    public static MatchResult play(MatchSpec spec, Bidder a, Bidder b) {
+        AuctionState referee = new AuctionState(spec.quantity(), spec.cash());
+        a.init(spec.quantity(), spec.cash());
+        b.init(spec.quantity(), spec.cash());
+
+        while (!referee.isAuctionOver()) {
+            int bidA = Math.clamp(a.placeBid(), 0, referee.getOwnCash());
+            int bidB = Math.clamp(b.placeBid(), 0, referee.getOpponentCash());
+            a.bids(bidA, bidB);
+            b.bids(bidB, bidA);
+
+            referee.updateCash(bidA, bidB);
+            if (bidA > bidB) {
+                referee.updateQuantities(2, 0);
+            } else if (bidB > bidA) {
+                referee.updateQuantities(0, 2);
+            } else {
+                referee.updateQuantities(1, 1);
+            }
+        }
+
+        return new MatchResult(spec, AuctionOutcome.of(referee), referee.getOwnQuantityWon(), referee.getOpponentQuantityWon(),
+                referee.getOwnCash(), referee.getOpponentCash());
+    }
+}
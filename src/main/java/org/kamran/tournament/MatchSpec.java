@@ -0,0 +1,47 @@
+package org.kamran.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code MatchSpec} describes one auction between two participants.
+ *
+ * @param playerA  name of the first participant
+ * @param playerB  name of the second participant
+ * @param quantity quantity passed to {@code init}
+ * @param cash     cash passed to {@code init}
+ * @param seed     seed for the participants' random decisions
+ * @see Participants
+ * @see MatchRunner
+ */
+public record MatchSpec(String playerA, String playerB, int quantity, int cash, long seed) {
+
+    /**
+     * Builds a parameter sweep: every ordered pairing of distinct players, for every
+     * quantity/cash combination, once per seed.
+     *
+     * @param players    The participant names.
+     * @param quantities The {@code init} quantities to sweep.
+     * @param cashes     The {@code init} cash amounts to sweep.
+     * @param seeds      The number of seeds per combination, starting at 0.
+     * @return The matches in a deterministic order.
+     */
+    public static List<MatchSpec> grid(List<String> players, int[] quantities, int[] cashes, int seeds) {
+        List<MatchSpec> matches = new ArrayList<>();
+        for (String playerA : players) {
+            for (String playerB : players) {
+                if (playerA.equals(playerB)) {
+                    continue;
+                }
+                for (int quantity : quantities) {
+                    for (int cash : cashes) {
+                        for (long seed = 0; seed < seeds; seed++) {
+                            matches.add(new MatchSpec(playerA, playerB, quantity, cash, seed));
+                        }
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,57 @@
+package org.kamran.tournament;
+
+import org.kamran.auction.Bidder;
+import org.kamran.auction.KamransBidder;
+import org.kamran.strategy.AdaptiveStrategy;
+import org.kamran.strategy.AggressiveStrategy;
+import org.kamran.strategy.ConservativeStrategy;
+import org.kamran.strategy.ZeroBidStrategy;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@code Participants} creates tournament players by name.
+ * <p>
+ * {@value #KAMRAN} is the full {@link KamransBidder} with dynamic strategy switching; every other
+ * name is a single strategy, identified by its {@code getStrategyName()}, played by a
+ * {@link StrategyBidder}. Every participant gets a seeded random source so matches can be
+ * replayed; {@value #KAMRAN} plays without speculation, which would not change its bids but
+ * would start background threads in every match.
+ */
+public final class Participants {
+
+    public static final String KAMRAN = "Kamran";
+
+    private static final List<String> NAMES = List.of(KAMRAN, "Adaptive", "Aggressive", "Conservative", "Zero bid");
+
+    private Participants() {
+    }
+
+    /**
+     * @return The names of all known participants.
+     */
+    public static List<String> names() {
+        return NAMES;
+    }
+
+    /**
+     * Creates a fresh, uninitialized participant.
+     *
+     * @param name The participant name.
+     * @param seed Seed for the participant's random decisions.
+     * @return {@link Bidder}
+     * @throws IllegalArgumentException If no participant has that name.
+     */
+    public static Bidder create(String name, long seed) {
+        Random random = new Random(seed);
+        return switch (name) {
+            case KAMRAN -> new KamransBidder(random); // Without a speculation executor
+            case "Adaptive" -> new StrategyBidder(new AdaptiveStrategy(random));
+            case "Aggressive" -> new StrategyBidder(new AggressiveStrategy(random));
+            case "Conservative" -> new StrategyBidder(new ConservativeStrategy(random));
+            case "Zero bid" -> new StrategyBidder(new ZeroBidStrategy());
+            default -> throw new IllegalArgumentException("Unknown participant: " + name);
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package org.kamran.tournament;
+
+import java.util.List;
+
+/**
+ * {@code Shard} is the unit of work handed to a {@link TournamentWorker}: a batch of matches that
+ * is either committed as a whole or retried as a whole.
+ *
+ * @param id      identifier unique within a tournament
+ * @param matches the matches to play, in order
+ */
+public record Shard(long id, List<MatchSpec> matches) {
+
+    public Shard {
+        matches = List.copyOf(matches);
+    }
+}
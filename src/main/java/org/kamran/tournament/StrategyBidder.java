@@ -0,0 +1,47 @@
+package org.kamran.tournament;
+
+import org.kamran.auction.AuctionState;
+import org.kamran.auction.Bidder;
+import org.kamran.strategy.BiddingStrategy;
+
+/**
+ * {@code StrategyBidder} is a {@link Bidder} that always plays one fixed {@link BiddingStrategy},
+ * so strategies can be pitted against each other directly in tournaments.
+ * <p>
+ * Unlike {@link org.kamran.auction.KamransBidder} it does not switch strategies and does not log.
+ */
+public class StrategyBidder implements Bidder {
+
+    private final BiddingStrategy strategy;
+    private AuctionState auctionState;
+
+    public StrategyBidder(BiddingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void init(int quantity, int cash) {
+        this.auctionState = new AuctionState(quantity, cash);
+    }
+
+    @Override
+    public int placeBid() {
+        if (auctionState.isAuctionOver()) {
+            return 0;
+        }
+        return Math.clamp(strategy.calculateBid(auctionState), 0, auctionState.getOwnCash());
+    }
+
+    @Override
+    public void bids(int own, int other) {
+        auctionState.recordOpponentBid(other);
+        auctionState.updateCash(own, other);
+        if (own > other) {
+            auctionState.updateQuantities(2, 0);
+        } else if (other > own) {
+            auctionState.updateQuantities(0, 2);
+        } else {
+            auctionState.updateQuantities(1, 1); // Tie
+        }
+    }
+}
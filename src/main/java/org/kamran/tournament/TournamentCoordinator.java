@@ -0,0 +1,306 @@
+package org.kamran.tournament;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code TournamentCoordinator} shards a batch of matches across {@link TournamentWorker} processes
+ * connected over TCP and aggregates their results.
+ * <p>
+ * Work distribution:
+ * <ul>
+ *     <li>Workers pull shards whenever they are idle, so fast workers naturally get more of them</li>
+ *     <li>Once no shard is left to hand out, an idle worker steals the oldest shard still in flight
+ *     and plays it as well; whichever copy finishes first is committed, the other is discarded</li>
+ *     <li>When a worker disconnects, the shards only it was playing go back to the front of the queue</li>
+ * </ul>
+ * Results stream in match by match but are only passed to the {@link MatchResultListener} when their
+ * shard is done, so every match is reported exactly once no matter how often it was played.
+ * <p>
+ * The coordinator listens on the loopback interface; it is meant for worker JVMs on the same
+ * machine or reached through an SSH tunnel.
+ *
+ * @see TournamentProtocol
+ */
+public class TournamentCoordinator implements AutoCloseable {
+
+    private static final int MAX_COPIES = 2; // A shard in flight is played by at most two workers
+
+    private final MatchResultListener listener;
+    private final ServerSocket serverSocket;
+    private final Thread acceptThread;
+    private final List<Socket> connections = new ArrayList<>();
+
+    // All fields below are guarded by this
+    private final Map<Long, Shard> shards = new HashMap<>();
+    private final Deque<Shard> pending = new ArrayDeque<>();
+    private final Map<Long, Integer> inFlight = new LinkedHashMap<>(); // Shard id -> number of workers, oldest first
+    private final Set<Long> completed = new HashSet<>();
+    private int retriedShards;
+    private int stolenShards;
+    private boolean closed;
+
+    /**
+     * Creates a coordinator and starts accepting workers on an ephemeral loopback port.
+     *
+     * @param matches   The matches to play.
+     * @param shardSize The maximum number of matches per shard.
+     * @param listener  Receives every result once.
+     * @throws IOException If the server socket cannot be opened.
+     */
+    public TournamentCoordinator(List<MatchSpec> matches, int shardSize, MatchResultListener listener) throws IOException {
+        this(matches, shardSize, listener, 0);
+    }
+
+    /**
+     * Creates a coordinator and starts accepting workers on the given loopback port.
+     *
+     * @param port The port to listen on, or 0 for an ephemeral port.
+     */
+    public TournamentCoordinator(List<MatchSpec> matches, int shardSize, MatchResultListener listener, int port) throws IOException {
+        if (shardSize <= 0) {
+            throw new IllegalArgumentException("Shard size must be positive: " + shardSize);
+        }
+        this.listener = listener;
+        for (int from = 0, id = 0; from < matches.size(); from += shardSize, id++) {
+            Shard shard = new Shard(id, matches.subList(from, Math.min(from + shardSize, matches.size())));
+            shards.put(shard.id(), shard);
+            pending.add(shard);
+        }
+
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.acceptThread = new Thread(this::acceptLoop, "tournament-accept");
+        this.acceptThread.setDaemon(true);
+        this.acceptThread.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public synchronized int getShardCount() {
+        return shards.size();
+    }
+
+    public synchronized int getCompletedShardCount() {
+        return completed.size();
+    }
+
+    /**
+     * @return How many times a shard was put back in the queue because its worker disconnected.
+     */
+    public synchronized int getRetriedShardCount() {
+        return retriedShards;
+    }
+
+    /**
+     * @return How many times an idle worker was handed a copy of a shard already in flight.
+     */
+    public synchronized int getStolenShardCount() {
+        return stolenShards;
+    }
+
+    private boolean isDone() {
+        return completed.size() == shards.size();
+    }
+
+    /**
+     * Waits until every shard has been committed.
+     *
+     * @return {@code true} if the tournament completed, {@code false} on timeout or close.
+     */
+    public synchronized boolean awaitCompletion(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!isDone() && !closed) {
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            wait(remainingMillis);
+        }
+        return isDone();
+    }
+
+    private void acceptLoop() {
+        int workerNumber = 0;
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                synchronized (this) {
+                    if (closed) {
+                        socket.close();
+                        return;
+                    }
+                    connections.add(socket);
+                }
+                Thread handler = new Thread(() -> handle(socket), "tournament-worker-" + workerNumber++);
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.out.println("Failed to accept worker: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        Set<Long> assigned = new HashSet<>();
+        Map<Long, Shard> playing = new HashMap<>();
+        Map<Long, MatchResult[]> buffered = new HashMap<>();
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            while (true) {
+                byte type = in.readByte();
+                switch (type) {
+                    case TournamentProtocol.REQUEST_WORK -> {
+                        Shard shard = nextShard(assigned);
+                        if (shard == null) {
+                            out.writeByte(TournamentProtocol.NO_MORE_WORK);
+                            out.flush();
+                            return;
+                        }
+                        playing.put(shard.id(), shard);
+                        buffered.put(shard.id(), new MatchResult[shard.matches().size()]);
+                        TournamentProtocol.writeShard(out, shard);
+                        out.flush();
+                    }
+                    case TournamentProtocol.RESULT -> {
+                        TournamentProtocol.IndexedResult indexed = TournamentProtocol.readResult(in, playing::get);
+                        buffered.get(indexed.shardId())[indexed.index()] = indexed.result();
+                    }
+                    case TournamentProtocol.SHARD_DONE -> {
+                        long shardId = in.readLong();
+                        playing.remove(shardId);
+                        MatchResult[] results = buffered.remove(shardId);
+                        if (results == null) {
+                            throw new IOException("Completion of unassigned shard " + shardId);
+                        }
+                        commit(shardId, results, assigned);
+                    }
+                    default -> throw new IOException("Unknown message type " + type);
+                }
+            }
+        } catch (EOFException e) {
+            // Worker went away; its shards are released below
+        } catch (IOException | InterruptedException e) {
+            if (!isClosed()) {
+                System.out.println("Lost worker " + socket.getRemoteSocketAddress() + ": " + e.getMessage());
+            }
+        } finally {
+            release(assigned);
+            synchronized (this) {
+                connections.remove(socket);
+            }
+        }
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Hands out the next pending shard, or a copy of the oldest shard in flight when nothing is
+     * pending. Blocks while every shard in flight is already being played by this worker or by
+     * {@value #MAX_COPIES} workers.
+     *
+     * @return The shard to play, or {@code null} once the tournament is over.
+     */
+    private synchronized Shard nextShard(Set<Long> assigned) throws InterruptedException {
+        while (!isDone() && !closed) {
+            Shard shard = pending.poll();
+            if (shard != null) {
+                inFlight.merge(shard.id(), 1, Integer::sum);
+                assigned.add(shard.id());
+                return shard;
+            }
+            for (Map.Entry<Long, Integer> entry : inFlight.entrySet()) {
+                if (entry.getValue() < MAX_COPIES && !assigned.contains(entry.getKey())) {
+                    entry.setValue(entry.getValue() + 1);
+                    assigned.add(entry.getKey());
+                    stolenShards++;
+                    return shards.get(entry.getKey());
+                }
+            }
+            wait();
+        }
+        return null;
+    }
+
+    private void commit(long shardId, MatchResult[] results, Set<Long> assigned) throws IOException {
+        for (MatchResult result : results) {
+            if (result == null) {
+                throw new IOException("Shard " + shardId + " done with missing results");
+            }
+        }
+        synchronized (this) {
+            assigned.remove(shardId);
+            if (!completed.add(shardId)) {
+                return; // The other copy of a stolen shard won
+            }
+            inFlight.remove(shardId);
+            for (MatchResult result : results) {
+                listener.onResult(result);
+            }
+            notifyAll();
+        }
+    }
+
+    private synchronized void release(Set<Long> assigned) {
+        for (long shardId : assigned) {
+            Integer copies = inFlight.get(shardId);
+            if (copies == null) {
+                continue;
+            }
+            if (copies > 1) {
+                inFlight.put(shardId, copies - 1);
+            } else {
+                inFlight.remove(shardId);
+                pending.addFirst(shards.get(shardId));
+                retriedShards++;
+            }
+        }
+        assigned.clear();
+        notifyAll();
+    }
+
+    /**
+     * Stops accepting workers and disconnects the connected ones.
+     */
+    @Override
+    public void close() throws IOException {
+        List<Socket> open;
+        synchronized (this) {
+            closed = true;
+            open = new ArrayList<>(connections);
+            notifyAll();
+        }
+        serverSocket.close();
+        for (Socket socket : open) {
+            socket.close();
+        }
+        try {
+            acceptThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.kamran.tournament;
+
+import org.kamran.auction.AuctionOutcome;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * {@code TournamentProtocol} is the binary message format spoken between a
+ * {@link TournamentCoordinator} and its {@link TournamentWorker}s over a plain socket.
+ * <p>
+ * Every message starts with a one byte type:
+ * <ul>
+ *     <li>{@link #REQUEST_WORK} (worker → coordinator): the worker is idle and wants a shard.</li>
+ *     <li>{@link #SHARD} (coordinator → worker): shard id, match count, then each {@link MatchSpec}.</li>
+ *     <li>{@link #NO_MORE_WORK} (coordinator → worker): the tournament is over, the worker should exit.</li>
+ *     <li>{@link #RESULT} (worker → coordinator): shard id, index of the match in the shard, then the score.
+ *     Results are streamed as soon as each match ends.</li>
+ *     <li>{@link #SHARD_DONE} (worker → coordinator): shard id; every result of the shard has been sent.</li>
+ * </ul>
+ * Callers flush the stream; the methods here only encode and decode.
+ */
+public final class TournamentProtocol {
+
+    public static final byte REQUEST_WORK = 1;
+    public static final byte RESULT = 2;
+    public static final byte SHARD_DONE = 3;
+    public static final byte SHARD = 10;
+    public static final byte NO_MORE_WORK = 11;
+
+    private static final AuctionOutcome[] OUTCOMES = AuctionOutcome.values();
+
+    private TournamentProtocol() {
+    }
+
+    public static void writeShard(DataOutputStream out, Shard shard) throws IOException {
+        out.writeByte(SHARD);
+        out.writeLong(shard.id());
+        out.writeInt(shard.matches().size());
+        for (MatchSpec spec : shard.matches()) {
+            out.writeUTF(spec.playerA());
+            out.writeUTF(spec.playerB());
+            out.writeInt(spec.quantity());
+            out.writeInt(spec.cash());
+            out.writeLong(spec.seed());
+        }
+    }
+
+    /**
+     * Reads the body of a {@link #SHARD} message whose type byte has already been consumed.
+     */
+    public static Shard readShard(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative match count: " + count);
+        }
+        List<MatchSpec> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            matches.add(new MatchSpec(in.readUTF(), in.readUTF(), in.readInt(), in.readInt(), in.readLong()));
+        }
+        return new Shard(id, matches);
+    }
+
+    public static void writeResult(DataOutputStream out, long shardId, int index, MatchResult result) throws IOException {
+        out.writeByte(RESULT);
+        out.writeLong(shardId);
+        out.writeInt(index);
+        out.writeByte(result.outcomeA().ordinal());
+        out.writeInt(result.quantityA());
+        out.writeInt(result.quantityB());
+        out.writeInt(result.cashA());
+        out.writeInt(result.cashB());
+    }
+
+    /**
+     * Reads the body of a {@link #RESULT} message whose type byte has already been consumed.
+     *
+     * @param shards Looks up the shards being played by the sender, {@code null} for unknown ids.
+     * @return The decoded result.
+     */
+    public static IndexedResult readResult(DataInputStream in, LongFunction<Shard> shards) throws IOException {
+        long shardId = in.readLong();
+        int index = in.readInt();
+        int outcome = in.readUnsignedByte();
+        Shard shard = shards.apply(shardId);
+        if (shard == null || index < 0 || index >= shard.matches().size() || outcome >= OUTCOMES.length) {
+            throw new IOException("Malformed result for shard " + shardId + " index " + index);
+        }
+        MatchResult result = new MatchResult(shard.matches().get(index), OUTCOMES[outcome],
+                in.readInt(), in.readInt(), in.readInt(), in.readInt());
+        return new IndexedResult(shardId, index, result);
+    }
+
+    public static void writeShardDone(DataOutputStream out, long shardId) throws IOException {
+        out.writeByte(SHARD_DONE);
+        out.writeLong(shardId);
+    }
+
+    /**
+     * A decoded {@link #RESULT} message.
+     */
+    public record IndexedResult(long shardId, int index, MatchResult result) {
+    }
+}
@@ -0,0 +1,62 @@
+package org.kamran.tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code TournamentStandings} aggregates match results into a points table as they stream in.
+ * <p>
+ * A win scores 1 point, an exact tie ½ and a loss 0 (see {@link org.kamran.auction.AuctionOutcome#getScore()}).
+ * Memory grows with the number of participants, never with the number of results.
+ */
+public class TournamentStandings implements MatchResultListener {
+
+    private final Map<String, Standing> standings = new HashMap<>();
+    private long matchCount;
+
+    @Override
+    public synchronized void onResult(MatchResult result) {
+        double scoreA = result.outcomeA().getScore();
+        record(result.spec().playerA(), scoreA);
+        record(result.spec().playerB(), 1 - scoreA);
+        matchCount++;
+    }
+
+    private void record(String player, double score) {
+        Standing current = standings.getOrDefault(player, new Standing(player, 0, 0, 0, 0));
+        standings.put(player, new Standing(player,
+                current.played() + 1,
+                current.wins() + (score == 1 ? 1 : 0),
+                current.ties() + (score == 0.5 ? 1 : 0),
+                current.points() + score));
+    }
+
+    /**
+     * @return The number of matches aggregated so far.
+     */
+    public synchronized long getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * @return The standings ordered by points, best first.
+     */
+    public synchronized List<Standing> table() {
+        List<Standing> table = new ArrayList<>(standings.values());
+        table.sort(Comparator.comparingDouble(Standing::points).reversed().thenComparing(Standing::player));
+        return table;
+    }
+
+    /**
+     * One row of the points table.
+     */
+    public record Standing(String player, long played, long wins, long ties, double points) {
+
+        public long losses() {
+            return played - wins - ties;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.kamran.tournament;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code TournamentWorker} connects to a {@link TournamentCoordinator}, plays the shards it is
+ * handed and streams the results back until the coordinator runs out of work.
+ * <p>
+ * Run one JVM per machine and let it open one connection per core:
+ * <pre>
+ * java -cp AuctionBot.jar org.kamran.tournament.TournamentWorker &lt;host&gt; &lt;port&gt; [connections]
+ * </pre>
+ * Match logging from the bidders is discarded, so standard output stays quiet.
+ */
+public class TournamentWorker implements Runnable {
+
+    private final String host;
+    private final int port;
+    private int playedMatches;
+
+    public TournamentWorker(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 2) {
+            System.err.println("Usage: TournamentWorker <host> <port> [connections]");
+            System.exit(2);
+        }
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            Thread thread = new Thread(new TournamentWorker(args[0], Integer.parseInt(args[1])), "tournament-worker-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            work();
+        } catch (IOException e) {
+            System.err.println("Worker stopped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Plays shards until the coordinator answers {@link TournamentProtocol#NO_MORE_WORK}.
+     *
+     * @throws IOException If the connection fails.
+     */
+    public void work() throws IOException {
+        try (Socket socket = new Socket(host, port);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            while (true) {
+                out.writeByte(TournamentProtocol.REQUEST_WORK);
+                out.flush();
+
+                byte type = in.readByte();
+                if (type == TournamentProtocol.NO_MORE_WORK) {
+                    return;
+                }
+                if (type != TournamentProtocol.SHARD) {
+                    throw new IOException("Unexpected message type " + type);
+                }
+
+                Shard shard = TournamentProtocol.readShard(in);
+                for (int i = 0; i < shard.matches().size(); i++) {
+                    TournamentProtocol.writeResult(out, shard.id(), i, MatchRunner.play(shard.matches().get(i)));
+                    out.flush(); // Stream each result as soon as the match ends
+                    playedMatches++;
+                }
+                TournamentProtocol.writeShardDone(out, shard.id());
+            }
+        }
+    }
+
+    /**
+     * @return The number of matches this worker has played, including ones discarded by the coordinator.
+     */
+    public int getPlayedMatches() {
+        return playedMatches;
+    }
+}
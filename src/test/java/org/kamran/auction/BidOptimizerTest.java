@@ -0,0 +1,94 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.kamran.opponent.OpponentBidDistribution;
+import org.kamran.provider.BiddingStrategyProvider;
+import org.kamran.strategy.BidOptimizer;
+import org.kamran.strategy.BiddingStrategy;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidOptimizerTest {
+
+    @Test
+    void testDistribution_MatchesBruteForce() {
+        Random random = new Random(42);
+        for (int cash : new int[]{100, 4095, 100_000}) { // Exact buckets and 25 MU wide buckets
+            OpponentBidDistribution distribution = new OpponentBidDistribution(cash);
+            int[] bids = random.ints(500, 0, cash + 1).toArray();
+            for (int bid : bids) {
+                distribution.add(bid);
+            }
+            int bucketWidth = cash < 4096 ? 1 : 25;
+
+            for (int i = 0; i < 200; i++) {
+                long threshold = (long) random.nextInt(cash / bucketWidth + 1) * bucketWidth; // Bucket boundary
+                long expected = Arrays.stream(bids).filter(bid -> bid < threshold).count();
+                assertEquals(expected, distribution.countBelow(threshold), "cash " + cash + ", below " + threshold);
+            }
+            for (int beat = 1; beat <= bids.length; beat += 37) {
+                long bid = distribution.cheapestBidBeating(beat);
+                assertTrue(distribution.countBelow(bid) >= beat);
+                assertTrue(distribution.countBelow(bid - bucketWidth) < beat, "Must be the cheapest bucket boundary");
+            }
+            assertEquals(-1, distribution.cheapestBidBeating(bids.length + 1));
+        }
+    }
+
+    @Test
+    void testCheapestBidWinningWith_ReturnsQuantileBids() {
+        AuctionState state = new AuctionState(20, 200);
+        assertTrue(BidOptimizer.cheapestBidWinningWith(state, 0.5).isEmpty(), "Nothing observed yet");
+
+        for (int i = 0; i < 5; i++) {
+            state.recordOpponentBid(10);
+            state.recordOpponentBid(50);
+        }
+
+        assertEquals(11, BidOptimizer.cheapestBidWinningWith(state, 0.5).orElseThrow());
+        assertEquals(51, BidOptimizer.cheapestBidWinningWith(state, 0.9).orElseThrow());
+        assertEquals(51, BidOptimizer.cheapestBidWinningWith(state, 1.0).orElseThrow());
+
+        state.updateCash(160, 0); // 40 MU left
+        assertTrue(BidOptimizer.cheapestBidWinningWith(state, 0.9).isEmpty(), "51 MU is not affordable");
+    }
+
+    @Test
+    void testBestValueBid_MaximizesQuantityPerCash() {
+        AuctionState state = new AuctionState(20, 200);
+        for (int i = 0; i < 5; i++) {
+            state.recordOpponentBid(10);
+            state.recordOpponentBid(50);
+        }
+
+        // 11 MU wins half of the rounds (1/11 QU per MU), 51 MU all of them (2/51 QU per MU)
+        assertEquals(11, BidOptimizer.bestValueBid(state).orElseThrow());
+
+        for (int i = 0; i < 40; i++) {
+            state.recordOpponentBid(50);
+        }
+        // Now 11 MU only wins 10% of the rounds: 0.2/11 < 2/51
+        assertEquals(51, BidOptimizer.bestValueBid(state).orElseThrow());
+    }
+
+    @Test
+    void testConservative_UsesBestValueBidUnderBundledRules() {
+        AuctionState state = new AuctionState(20, 80);
+        for (int i = 0; i < 6; i++) {
+            state.recordOpponentBid(0);
+        }
+        for (int i = 0; i < 4; i++) {
+            state.recordOpponentBid(5);
+        }
+        state.updateCash(74, 0); // 6 MU left, below 10 MU and 10% of the initial cash
+        state.updateQuantities(8, 4); // 4 rounds left, 3 to win: not critical
+
+        BiddingStrategy strategy = BiddingStrategyProvider.determineStrategy(state);
+        assertEquals("Conservative", strategy.getStrategyName());
+        // 1 MU beats the 0 MU bids (1.2 QU per MU) and fits the share of 6 MU over 4 rounds; 10% of the cash would be 0
+        assertEquals(1, strategy.calculateBid(state));
+    }
+}
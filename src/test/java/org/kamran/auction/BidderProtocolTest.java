@@ -0,0 +1,66 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.kamran.cli.BidderProtocol;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidderProtocolTest {
+
+    private List<String> converse(String... commands) throws Exception {
+        return converse(new KamransBidder(), commands);
+    }
+
+    private List<String> converse(KamransBidder bidder, String... commands) throws Exception {
+        StringWriter replies = new StringWriter();
+        BufferedReader in = new BufferedReader(new StringReader(String.join("\n", commands)));
+        new BidderProtocol(bidder, in, new PrintWriter(replies)).run();
+        return replies.toString().lines().toList();
+    }
+
+    @Test
+    void testFullSession() throws Exception {
+        List<String> replies = converse("INIT 4 100", "BID", "BIDS 10 5", "NEXT 10 20", "QUIT", "BID");
+
+        assertEquals(5, replies.size(), "Nothing should be answered after QUIT");
+        assertEquals("OK", replies.get(0));
+        int firstBid = Integer.parseInt(replies.get(1));
+        assertTrue(firstBid >= 0 && firstBid <= 100);
+        assertEquals("OK", replies.get(2));
+        assertEquals("0", replies.get(3), "Auction of 4 QU is over after two rounds");
+        assertEquals("BYE", replies.get(4));
+    }
+
+    @Test
+    void testMalformedCommands_AreRejectedWithoutEndingSession() throws Exception {
+        List<String> replies = converse("BID", "INIT 10", "INIT ten 100", "FOO", "", "INIT 10 100", "QUIT");
+
+        assertEquals("ERR INIT must come first", replies.get(0));
+        assertEquals("ERR INIT expects 2 arguments", replies.get(1));
+        assertTrue(replies.get(2).startsWith("ERR not a number"));
+        assertEquals("ERR unknown command: FOO", replies.get(3));
+        assertEquals("ERR empty command", replies.get(4));
+        assertEquals("OK", replies.get(5));
+        assertEquals("BYE", replies.get(6));
+    }
+
+    @Test
+    void testBidderFailure_IsAnsweredWithoutEndingSession() throws Exception {
+        KamransBidder bidder = new KamransBidder() {
+            @Override
+            public int placeBid() {
+                throw new ArithmeticException("/ by zero");
+            }
+        };
+
+        List<String> replies = converse(bidder, "INIT 10 100", "BID", "BIDS 5 3", "QUIT");
+
+        assertEquals(List.of("OK", "ERR internal error: java.lang.ArithmeticException: / by zero", "OK", "BYE"), replies);
+    }
+}
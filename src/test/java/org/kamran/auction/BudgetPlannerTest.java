@@ -0,0 +1,144 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.kamran.strategy.BudgetPlanner;
+
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BudgetPlannerTest {
+
+    private static AuctionState observed(int quantity, int cash, int... opponentBids) {
+        AuctionState state = new AuctionState(quantity, cash);
+        for (int bid : opponentBids) {
+            state.getOpponentBidDistribution().add(bid);
+        }
+        return state;
+    }
+
+    @Test
+    void testPlannedBid_WithoutEnoughObservations_IsEmpty() {
+        AuctionState state = observed(10, 240, 20, 20);
+
+        assertTrue(state.getBudgetPlanner().plannedBid(state).isEmpty());
+    }
+
+    @Test
+    void testPlannedBid_AgainstConstantOpponent_OutbidsJustEnough() {
+        AuctionState state = observed(10, 320, 20, 20, 20); // 5 rounds, 3 to win, units of 10 MU
+
+        OptionalInt bid = state.getBudgetPlanner().plannedBid(state);
+
+        assertEquals(30, bid.orElseThrow(), "Cheapest spend above the opponent's 20 MU");
+        assertEquals(1.0, state.getBudgetPlanner().successProbability(state).orElseThrow(), 1e-6);
+    }
+
+    @Test
+    void testPlannedBid_SkipsRoundsItCannotAffordToWin() {
+        AuctionState state = observed(10, 320, 20, 20, 20);
+        state.updateCash(250, 0); // 70 MU left: only two rounds can be bought
+        state.updateQuantities(2, 0); // 4 rounds left, 2 to win
+
+        int bid = state.getBudgetPlanner().plannedBid(state).orElseThrow();
+        assertTrue(bid > 20 && bid <= 35, "Outbid 20 MU but keep enough for a second win: " + bid);
+        assertEquals(1.0, state.getBudgetPlanner().successProbability(state).orElseThrow(), 1e-6);
+
+        state.updateCash(50, 0); // 20 MU left cannot beat 20 MU bids
+        assertTrue(state.getBudgetPlanner().plannedBid(state).isEmpty(), "No plan reaches the target");
+    }
+
+    @Test
+    void testPlannedBid_MoreRoundsToWinThanLeft_IsEmpty() {
+        AuctionState state = observed(10, 320, 20, 20, 20);
+        state.updateQuantities(0, 6); // 2 rounds left, 3 to win
+
+        assertTrue(state.getBudgetPlanner().plannedBid(state).isEmpty());
+        assertEquals(0.0, state.getBudgetPlanner().successProbability(state).orElseThrow());
+    }
+
+    @Test
+    void testPlannedBid_MatchesExhaustiveSearch() {
+        // Opponent bids 0 or 100 half of the time each: a spend of 1..100 wins with probability 1/2
+        AuctionState state = observed(8, 320, 0, 100, 0, 100);
+
+        // 4 rounds, 3 to win, 32 units of 10 MU; winning needs a spend of 1 unit (1/2) or 11 units (1)
+        double best = exhaustive(4, 3, 32);
+        assertEquals(best, state.getBudgetPlanner().successProbability(state).orElseThrow(), 1e-6);
+    }
+
+    private static double exhaustive(int rounds, int needed, int budget) {
+        if (needed == 0) return 1;
+        if (rounds == 0) return 0;
+        double best = 0;
+        for (int spend = 0; spend <= budget; spend++) {
+            double win = spend == 0 ? 0 : spend <= 10 ? 0.5 : 1;
+            best = Math.max(best, win * exhaustive(rounds - 1, needed - 1, budget - spend)
+                                  + (1 - win) * exhaustive(rounds - 1, needed, budget - spend));
+        }
+        return best;
+    }
+
+    @Test
+    void testRows_AreReusedWhileOpponentModelIsStable() {
+        AuctionState state = observed(400, 10_000, 50, 50, 50);
+        BudgetPlanner planner = state.getBudgetPlanner();
+        assertTrue(planner.plannedBid(state).isEmpty(), "101 rounds to win do not fit into the budget units");
+
+        state.updateQuantities(180, 0); // 110 rounds left, 11 to win
+        int queries = 1;
+        while (planner.plannedBid(state).isEmpty()) { // Solving is spread over several queries
+            queries++;
+        }
+        long solved = planner.getSolvedRowCount();
+        assertTrue(queries > 1, "110 rounds should not be solved in a single query");
+        assertEquals(state.getRemainingRounds() + 1, solved, "Rows 0..remainingRounds");
+
+        for (int round = 0; round < 50; round++) {
+            state.recordOpponentBid(50);
+            state.updateCash(30, 50);
+            state.updateQuantities(0, 2);
+            assertTrue(planner.plannedBid(state).isPresent());
+        }
+        assertEquals(solved, planner.getSolvedRowCount(), "Later rounds must only read already solved rows");
+
+        for (int i = 0; i < 100; i++) {
+            state.getOpponentBidDistribution().add(1_000); // The opponent changes its behavior
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(planner.plannedBid(state).isPresent(), "The previous plan answers while re-solving");
+        }
+        assertEquals(solved + state.getRemainingRounds() + 1, planner.getSolvedRowCount(), "Drifted model re-solves once");
+    }
+
+    @Test
+    void testCopy_SharesSolvedRowsButNotObservations() {
+        AuctionState state = observed(10, 320, 20, 20, 20);
+        state.getBudgetPlanner().plannedBid(state);
+
+        AuctionState copy = state.copy();
+        for (int i = 0; i < 10; i++) {
+            copy.getOpponentBidDistribution().add(35);
+        }
+
+        assertEquals(30, state.getBudgetPlanner().plannedBid(state).orElseThrow());
+        assertEquals(40, copy.getBudgetPlanner().plannedBid(copy).orElseThrow());
+    }
+
+    @Test
+    void testCopy_SolvingPendingRowsOnlyCountsForTheCopy() {
+        AuctionState state = observed(400, 10_000, 50, 50, 50);
+        state.updateQuantities(180, 0); // 110 rounds left, 11 to win
+        BudgetPlanner planner = state.getBudgetPlanner();
+        assertTrue(planner.plannedBid(state).isEmpty(), "Solving is spread over several queries");
+        long solved = planner.getSolvedRowCount();
+
+        AuctionState copy = state.copy(); // Shares the pending table's rows, e.g. for speculation
+        while (copy.getBudgetPlanner().plannedBid(copy).isEmpty()) {
+            // Finishes the pending solve on the copy
+        }
+
+        assertEquals(solved, planner.getSolvedRowCount(), "The copy must not count rows for the live planner");
+        assertEquals(copy.getRemainingRounds() + 1, copy.getBudgetPlanner().getSolvedRowCount());
+    }
+}
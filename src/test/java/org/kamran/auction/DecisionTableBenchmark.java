@@ -0,0 +1,94 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.kamran.provider.BiddingStrategyProvider;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares strategy selection through the compiled bundled rules with the hard-coded if/else chain
+ * they replaced ({@link DecisionTableTest#legacySelection(AuctionState)}).
+ * <p>
+ * Both selectors run over the same auction states in alternating rounds after a warm-up, and the
+ * fastest round of each is reported in nanoseconds per selection. Results are consumed through
+ * {@link System#identityHashCode(Object)}, which costs the same for both. The table, including the
+ * registry lookup the chain does not have, must be as fast as the chain, within
+ * {@code bench.maxSlowdown} for timing noise.
+ * <p>
+ * Excluded from the default build; run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class DecisionTableBenchmark {
+
+    private final int selections = Integer.getInteger("bench.selections", 10_000_000);
+    private final int rounds = Integer.getInteger("bench.rounds", 10);
+    private final double maxSlowdown = Double.parseDouble(System.getProperty("bench.maxSlowdown", "1.5"));
+
+    @Test
+    void testDecisionTableSelectionCost() {
+        AuctionState[] states = states(1_024);
+        for (int i = 0; i < states.length; i++) {
+            assertEquals(DecisionTableTest.legacySelection(states[i]),
+                    BiddingStrategyProvider.determineStrategy(states[i]).getClass(), states[i]::toString);
+        }
+
+        double table = Double.MAX_VALUE;
+        double legacy = Double.MAX_VALUE;
+        for (int round = 0; round <= rounds; round++) { // Round 0 is the warm-up
+            double tableNanos = timeTable(states);
+            double legacyNanos = timeLegacy(states);
+            if (round > 0) {
+                table = Math.min(table, tableNanos);
+                legacy = Math.min(legacy, legacyNanos);
+            }
+        }
+
+        System.out.println(String.format(Locale.ROOT,
+                "{\"selections\":%d,\"decisionTableNanos\":%.2f,\"legacyChainNanos\":%.2f}", selections, table, legacy));
+        assertTrue(table <= legacy * maxSlowdown, "Decision table takes " + table + "ns per selection, legacy chain " + legacy + "ns");
+    }
+
+    private double timeTable(AuctionState[] states) {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < selections; i++) {
+            checksum += System.identityHashCode(BiddingStrategyProvider.determineStrategy(states[i & (states.length - 1)]));
+        }
+        long elapsed = System.nanoTime() - start;
+        assertNotEquals(0, checksum);
+        return (double) elapsed / selections;
+    }
+
+    private double timeLegacy(AuctionState[] states) {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < selections; i++) {
+            checksum += System.identityHashCode(DecisionTableTest.legacySelection(states[i & (states.length - 1)]));
+        }
+        long elapsed = System.nanoTime() - start;
+        assertNotEquals(0, checksum);
+        return (double) elapsed / selections;
+    }
+
+    /**
+     * @return States spread over all rules: early, critical, clinched and nearly broke.
+     */
+    private static AuctionState[] states(int count) {
+        Random random = new Random(42);
+        AuctionState[] states = new AuctionState[count];
+        for (int i = 0; i < count; i++) {
+            int quantity = 2 * (5 + random.nextInt(100));
+            int cash = 1 + random.nextInt(1_000);
+            AuctionState state = new AuctionState(quantity, cash);
+            int ownWon = random.nextInt(quantity + 1);
+            state.updateQuantities(ownWon, random.nextInt(quantity - ownWon + 1));
+            state.updateCash(random.nextInt(cash + 1), random.nextInt(cash + 1));
+            states[i] = state;
+        }
+        return states;
+    }
+}
@@ -0,0 +1,173 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kamran.provider.BiddingStrategyProvider;
+import org.kamran.provider.DecisionTable;
+import org.kamran.strategy.AdaptiveStrategy;
+import org.kamran.strategy.AggressiveStrategy;
+import org.kamran.strategy.BiddingStrategy;
+import org.kamran.strategy.ConservativeStrategy;
+import org.kamran.strategy.ZeroBidStrategy;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionTableTest {
+
+    private static final Map<String, BiddingStrategy> STRATEGIES = Map.of(
+            "Zero bid", new ZeroBidStrategy(),
+            "Aggressive", new AggressiveStrategy(),
+            "Conservative", new ConservativeStrategy(),
+            "Adaptive", new AdaptiveStrategy());
+
+    @AfterEach
+    void restoreBundledRules() {
+        BiddingStrategyProvider.resetRules();
+    }
+
+    /**
+     * The hard-coded selection chain the bundled rules replace.
+     */
+    static Class<? extends BiddingStrategy> legacySelection(AuctionState state) {
+        if (state.getOwnQuantityWon() >= state.getTargetQuantity()) {
+            return ZeroBidStrategy.class;
+        }
+        int maxOpponentCanWinTotal = state.getOpponentQuantityWon() + state.getRemainingQuantity();
+        if (maxOpponentCanWinTotal < state.getOwnQuantityWon() && state.getOwnQuantityWon() > 0) {
+            return ZeroBidStrategy.class;
+        }
+        int remainingRounds = state.getRemainingRounds();
+        if (remainingRounds > 0 && remainingRounds <= state.getNeededQuantityToWin()) {
+            if (state.getOwnCash() > state.getOpponentCash() / 2 || state.getOwnCash() > state.getInitialCash() / 4) {
+                return AggressiveStrategy.class;
+            }
+            return AdaptiveStrategy.class;
+        }
+        if (state.getOwnCash() < state.getInitialCash() * 0.1 && state.getOwnCash() < 10) {
+            return ConservativeStrategy.class;
+        }
+        return AdaptiveStrategy.class;
+    }
+
+    @Test
+    void testBundledRules_MatchLegacySelectionExhaustively() {
+        int checked = 0;
+        for (int quantity : new int[]{2, 4, 7, 10, 21}) {
+            for (int cash : new int[]{1, 9, 37, 100}) {
+                for (int ownWon = 0; ownWon <= quantity; ownWon++) {
+                    for (int opponentWon = 0; ownWon + opponentWon <= quantity; opponentWon++) {
+                        for (int ownSpent = 0; ownSpent <= cash; ownSpent += Math.max(1, cash / 12)) {
+                            for (int opponentSpent = 0; opponentSpent <= cash; opponentSpent += Math.max(1, cash / 12)) {
+                                AuctionState state = new AuctionState(quantity, cash);
+                                state.updateQuantities(ownWon, opponentWon);
+                                state.updateCash(ownSpent, opponentSpent);
+
+                                assertEquals(legacySelection(state), BiddingStrategyProvider.determineStrategy(state).getClass(),
+                                        state::toString);
+                                checked++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(checked > 10_000);
+    }
+
+    @Test
+    void testCompile_OperatorsAndRuleOrder() {
+        DecisionTable table = DecisionTable.compile("""
+                # first match wins
+                when ownCash == 50 use Conservative
+                when ownCash != 100 and ownCash >= 0.5 * opponentCash use Aggressive
+                when remainingRounds < 3 use Zero bid
+                otherwise use Adaptive
+                """, STRATEGIES::get);
+        assertEquals(4, table.getRuleCount());
+
+        AuctionState state = new AuctionState(10, 100);
+        assertEquals("Adaptive", table.select(state).getStrategyName());
+
+        state.updateCash(50, 0);
+        assertEquals("Conservative", table.select(state).getStrategyName());
+
+        state.updateCash(10, 20); // Own 40, opponent 80
+        assertEquals("Aggressive", table.select(state).getStrategyName());
+
+        state.updateCash(0, 0);
+        state.updateQuantities(3, 3); // 4 QU left, 2 rounds
+        state.updateCash(1, 0); // Own 39 < 0.5 * 80
+        assertEquals("Zero bid", table.select(state).getStrategyName());
+    }
+
+    @Test
+    void testSelect_SharedAndManyConditions() {
+        StringBuilder rules = new StringBuilder();
+        for (int cash = 0; cash < 70; cash++) { // More distinct conditions than are memoized per selection
+            rules.append("when remainingRounds > 0 and ownCash == ").append(cash).append(" use Aggressive\n");
+        }
+        rules.append("when remainingRounds > 0 use Conservative\notherwise use Adaptive");
+        DecisionTable table = DecisionTable.compile(rules.toString(), STRATEGIES::get);
+
+        AuctionState state = new AuctionState(10, 100);
+        assertEquals("Conservative", table.select(state).getStrategyName());
+        state.updateCash(31, 0); // 69 MU left
+        assertEquals("Aggressive", table.select(state).getStrategyName());
+        state.updateQuantities(5, 5); // No rounds left
+        assertEquals("Adaptive", table.select(state).getStrategyName());
+    }
+
+    @Test
+    void testCompile_MalformedRules_AreRejectedWithLineNumber() {
+        IllegalArgumentException unknownFeature = assertThrows(IllegalArgumentException.class,
+                () -> DecisionTable.compile("\nwhen wealth > 3 use Adaptive\notherwise use Adaptive", STRATEGIES::get));
+        assertEquals("Rule line 2: unknown feature 'wealth'", unknownFeature.getMessage());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> DecisionTable.compile("otherwise use Timid", STRATEGIES::get));
+        assertThrows(IllegalArgumentException.class,
+                () -> DecisionTable.compile("when ownCash > 3 use Adaptive", STRATEGIES::get), "Missing otherwise");
+        assertThrows(IllegalArgumentException.class,
+                () -> DecisionTable.compile("when ownCash >> 3 use Adaptive\notherwise use Adaptive", STRATEGIES::get));
+        assertThrows(IllegalArgumentException.class,
+                () -> DecisionTable.compile("otherwise use Adaptive\nwhen ownCash > 3 use Aggressive", STRATEGIES::get));
+    }
+
+    @Test
+    void testReloadRules_SwapsAtomicallyAndKeepsOldTableOnError() throws Exception {
+        AuctionState state = new AuctionState(30, 500);
+        state.updateQuantities(5, 0); // Not critical, plenty of cash
+        assertInstanceOf(AdaptiveStrategy.class, BiddingStrategyProvider.determineStrategy(state));
+
+        BiddingStrategyProvider.reloadRules("otherwise use Conservative");
+        assertInstanceOf(ConservativeStrategy.class, BiddingStrategyProvider.determineStrategy(state));
+
+        assertThrows(IllegalArgumentException.class, () -> BiddingStrategyProvider.reloadRules("when nonsense"));
+        assertInstanceOf(ConservativeStrategy.class, BiddingStrategyProvider.determineStrategy(state));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reloader = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                BiddingStrategyProvider.reloadRules(i % 2 == 0 ? "otherwise use Aggressive" : "otherwise use Conservative");
+            }
+        });
+        reloader.start();
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                BiddingStrategy strategy = BiddingStrategyProvider.determineStrategy(state);
+                if (!(strategy instanceof AggressiveStrategy) && !(strategy instanceof ConservativeStrategy)) {
+                    failure.set(new AssertionError("Unexpected strategy " + strategy.getStrategyName()));
+                }
+            }
+        } finally {
+            running.set(false);
+            reloader.join();
+        }
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,246 @@
+package org.kamran.auction;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Closed-loop latency load test for {@link KamransBidder}.
+ * <p>
+ * Many independent auction sessions are driven concurrently at a fixed target round rate. Every
+ * round has an intended start time on a fixed schedule, and {@code placeBid} latency is measured
+ * from that intended start rather than from the moment the call was actually issued, so a stall
+ * is charged to every round it delays (coordinated-omission correction). {@code bids} is scheduled
+ * half a round interval later, when the opponent's bid would arrive, and is measured from that
+ * intended time in the same way.
+ * <p>
+ * Excluded from the default build; run it with {@code mvn test -Pload-test}. All knobs are system
+ * properties, e.g. {@code -Dload.rate=50000 -Dload.placeBid.p99Micros=500}. Results are written as
+ * JSON to {@code load.output} so runs can be compared across builds.
+ */
+@Tag("load")
+class KamransBidderLoadTest {
+
+    private static final int QUANTITY = 200;
+    private static final int CASH = 10_000;
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final int sessions = Integer.getInteger("load.sessions", 64);
+    private final int threads = Integer.getInteger("load.threads", Math.min(sessions, Runtime.getRuntime().availableProcessors()));
+    private final int roundsPerSecond = Integer.getInteger("load.rate", 20_000);
+    private final int warmupSeconds = Integer.getInteger("load.warmupSeconds", 3);
+    private final int durationSeconds = Integer.getInteger("load.durationSeconds", 10);
+    private final Path output = Path.of(System.getProperty("load.output", "target/load-test/bidder-latency.json"));
+
+    private final Thresholds placeBidThresholds = Thresholds.fromProperties("placeBid", 200, 2_000, 10_000);
+    private final Thresholds bidsThresholds = Thresholds.fromProperties("bids", 100, 1_000, 5_000);
+
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void silenceBidderLogging() {
+        // The bidder logs every decision to stdout; at load-test rates that would measure the console.
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @AfterEach
+    void restoreStdout() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void testBidderLatencyUnderConcurrentSessions() throws Exception {
+        runPhase(warmupSeconds);
+        LatencyRecording recording = runPhase(durationSeconds);
+
+        writeResults(recording);
+        originalOut.println(toJson(recording));
+
+        assertTrue(recording.placeBid.getTotalCount() > 0, "No rounds were executed.");
+        placeBidThresholds.assertWithin(recording.placeBid);
+        bidsThresholds.assertWithin(recording.bids);
+    }
+
+    private LatencyRecording runPhase(int seconds) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            double intervalNanos = (double) TimeUnit.SECONDS.toNanos(1) * threads / roundsPerSecond; // Not rounded to whole nanos
+            long roundsPerThread = (long) roundsPerSecond * seconds / threads;
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch go = new CountDownLatch(1);
+
+            List<Future<LatencyRecording>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int firstSession = t * sessions / threads;
+                int lastSession = (t + 1) * sessions / threads;
+                long seed = 31L * t + 7;
+                workers.add(pool.submit(() -> {
+                    SessionDriver driver = new SessionDriver(lastSession - firstSession, seed);
+                    ready.countDown();
+                    go.await();
+                    return driver.run(roundsPerThread, intervalNanos);
+                }));
+            }
+
+            ready.await();
+            go.countDown();
+
+            LatencyRecording total = new LatencyRecording();
+            for (Future<LatencyRecording> worker : workers) {
+                total.add(worker.get());
+            }
+            return total;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void writeResults(LatencyRecording recording) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(output, toJson(recording));
+    }
+
+    private String toJson(LatencyRecording recording) {
+        return String.format(Locale.ROOT,
+                "{\"sessions\":%d,\"threads\":%d,\"targetRoundsPerSecond\":%d,\"durationSeconds\":%d,"
+                + "\"placeBid\":%s,\"bids\":%s}",
+                sessions, threads, roundsPerSecond, durationSeconds,
+                percentilesJson(recording.placeBid), percentilesJson(recording.bids));
+    }
+
+    private static String percentilesJson(Histogram histogram) {
+        return String.format(Locale.ROOT,
+                "{\"count\":%d,\"p50Micros\":%.3f,\"p99Micros\":%.3f,\"p999Micros\":%.3f,\"maxMicros\":%.3f}",
+                histogram.getTotalCount(),
+                micros(histogram.getValueAtPercentile(50.0)),
+                micros(histogram.getValueAtPercentile(99.0)),
+                micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getMaxValue()));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+
+    /**
+     * Plays a fixed set of sessions round-robin on one thread against a randomized opponent,
+     * restarting each session with a fresh {@code init} once its auction is over.
+     */
+    private static final class SessionDriver {
+        private final KamransBidder[] bidders;
+        private final int[] opponentCash;
+        private final int[] remainingQuantity;
+        private final SplittableRandom random;
+
+        SessionDriver(int sessionCount, long seed) {
+            this.bidders = new KamransBidder[sessionCount];
+            this.opponentCash = new int[sessionCount];
+            this.remainingQuantity = new int[sessionCount];
+            this.random = new SplittableRandom(seed);
+            for (int i = 0; i < sessionCount; i++) {
+                bidders[i] = new KamransBidder();
+                restart(i);
+            }
+        }
+
+        LatencyRecording run(long rounds, double intervalNanos) {
+            LatencyRecording recording = new LatencyRecording();
+            long start = System.nanoTime();
+            for (long round = 0; round < rounds && bidders.length > 0; round++) {
+                long intendedStart = start + (long) (round * intervalNanos);
+                awaitNanoTime(intendedStart);
+
+                int session = (int) (round % bidders.length);
+                KamransBidder bidder = bidders[session];
+
+                int ownBid = bidder.placeBid();
+                long placed = System.nanoTime();
+                recording.placeBid.recordValue(Math.min(placed - intendedStart, HIGHEST_TRACKABLE_NANOS));
+
+                int otherBid = opponentCash[session] == 0 ? 0 : random.nextInt(Math.min(opponentCash[session], 120) + 1);
+                opponentCash[session] -= otherBid;
+
+                long bidsIntendedStart = start + (long) ((round + 0.5) * intervalNanos);
+                awaitNanoTime(bidsIntendedStart);
+                bidder.bids(ownBid, otherBid);
+                recording.bids.recordValue(Math.min(System.nanoTime() - bidsIntendedStart, HIGHEST_TRACKABLE_NANOS));
+
+                remainingQuantity[session] -= 2; // Each round auctions 2 QU
+                if (remainingQuantity[session] <= 0) {
+                    restart(session);
+                }
+            }
+            return recording;
+        }
+
+        private static void awaitNanoTime(long deadline) {
+            long now;
+            while ((now = System.nanoTime()) < deadline) {
+                LockSupport.parkNanos(deadline - now);
+            }
+        }
+
+        private void restart(int session) {
+            bidders[session].init(QUANTITY, CASH);
+            opponentCash[session] = CASH;
+            remainingQuantity[session] = QUANTITY;
+        }
+    }
+
+    private static final class LatencyRecording {
+        final Histogram placeBid = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final Histogram bids = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+
+        void add(LatencyRecording other) {
+            placeBid.add(other.placeBid);
+            bids.add(other.bids);
+        }
+    }
+
+    private record Thresholds(String operation, long p50Micros, long p99Micros, long p999Micros) {
+
+        static Thresholds fromProperties(String operation, long p50, long p99, long p999) {
+            return new Thresholds(operation,
+                    Long.getLong("load." + operation + ".p50Micros", p50),
+                    Long.getLong("load." + operation + ".p99Micros", p99),
+                    Long.getLong("load." + operation + ".p999Micros", p999));
+        }
+
+        void assertWithin(Histogram histogram) {
+            assertAll(operation,
+                    () -> assertPercentile(histogram, 50.0, p50Micros),
+                    () -> assertPercentile(histogram, 99.0, p99Micros),
+                    () -> assertPercentile(histogram, 99.9, p999Micros));
+        }
+
+        private void assertPercentile(Histogram histogram, double percentile, long limitMicros) {
+            double actual = micros(histogram.getValueAtPercentile(percentile));
+            assertTrue(actual <= limitMicros,
+                    operation + " p" + percentile + " was " + actual + "us, threshold " + limitMicros + "us");
+        }
+    }
+}
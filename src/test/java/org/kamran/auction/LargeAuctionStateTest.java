@@ -0,0 +1,156 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.kamran.provider.BiddingStrategyProvider;
+import org.kamran.provider.StrategyRegistry;
+import org.kamran.strategy.BiddingStrategy;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LargeAuctionStateTest {
+
+    private static final long QUANTITY = 10_000_000L;
+    private static final long CASH = 3_000_000_000_000L;
+
+    @Test
+    void testInitialization_BeyondIntRange() {
+        LargeAuctionState state = new LargeAuctionState(QUANTITY, CASH);
+        assertEquals(CASH, state.getOwnCash());
+        assertEquals(CASH, state.getOpponentCash());
+        assertEquals(QUANTITY / 2, state.getRemainingRounds());
+        assertEquals(QUANTITY / 2 + 1, state.getTargetQuantity());
+        assertFalse(state.isAuctionOver());
+    }
+
+    @Test
+    void testUpdateCash_SaturatesInsteadOfOverflowing() {
+        LargeAuctionState state = new LargeAuctionState(QUANTITY, Long.MAX_VALUE);
+        state.updateCash(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, state.getOwnCash(), "Negative payment must not wrap cash around");
+        assertEquals(0, state.getOpponentCash());
+    }
+
+    @Test
+    void testUpdateQuantities_SaturatesAndNeverGoesNegative() {
+        LargeAuctionState state = new LargeAuctionState(Long.MAX_VALUE, CASH);
+        assertEquals(Long.MAX_VALUE / 2 + 1, state.getRemainingRounds());
+
+        state.updateQuantities(Long.MAX_VALUE, Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, state.getOwnQuantityWon());
+        assertEquals(0, state.getRemainingQuantity());
+        assertTrue(state.isAuctionOver());
+    }
+
+    @Test
+    void testRecordOpponentBid_KeepsConstantSizeSummary() {
+        LargeAuctionState state = new LargeAuctionState(QUANTITY, CASH);
+        state.recordOpponentBid(100);
+        state.recordOpponentBid(300);
+        assertEquals(2, state.getOpponentBidCount());
+        assertEquals(200, state.getAverageOpponentBid());
+        assertEquals(300, state.getLastOpponentBid());
+        assertTrue(state.getRecentAverageOpponentBid() > 100 && state.getRecentAverageOpponentBid() < 300);
+    }
+
+    @Test
+    void testAuctionState_IntUpdatesDoNotWrapAround() {
+        AuctionState state = new AuctionState(10, Integer.MAX_VALUE);
+        state.updateCash(Integer.MIN_VALUE, 0);
+        assertEquals(Integer.MAX_VALUE, state.getOwnCash());
+    }
+
+    @Test
+    void testLargeScaleBidder_PlaysFullAuctionWithinBudget() {
+        LargeScaleBidder bidder = new LargeScaleBidder(1);
+        LargeScaleBidder opponent = new LargeScaleBidder(2);
+        bidder.init(1_000, CASH);
+        opponent.init(1_000, CASH);
+
+        for (int round = 0; round < 500; round++) {
+            long own = bidder.placeBid();
+            long other = opponent.placeBid();
+            assertTrue(own >= 0 && own <= bidder.getAuctionState().getOwnCash());
+            bidder.bids(own, other);
+            opponent.bids(other, own);
+        }
+
+        LargeAuctionState state = bidder.getAuctionState();
+        assertTrue(state.isAuctionOver());
+        assertEquals(1_000, state.getOwnQuantityWon() + state.getOpponentQuantityWon());
+        assertEquals(0, bidder.placeBid());
+    }
+
+    @Test
+    void testDetermineStrategy_SameAsForIntStates() {
+        Random random = new Random(42);
+        for (int game = 0; game < 200; game++) {
+            int quantity = 2 * (1 + random.nextInt(20));
+            int cash = random.nextInt(200);
+            AuctionState state = new AuctionState(quantity, cash);
+            LargeAuctionState largeState = new LargeAuctionState(quantity, cash);
+
+            while (true) {
+                assertEquals(BiddingStrategyProvider.determineStrategy(state).getStrategyName(),
+                        BiddingStrategyProvider.determineStrategy(largeState).getStrategyName(), state.toString());
+                if (state.isAuctionOver()) {
+                    break;
+                }
+                int own = random.nextInt(state.getOwnCash() + 1);
+                int other = random.nextInt(state.getOpponentCash() + 1);
+                int ownWon = own > other ? 2 : own == other ? 1 : 0;
+                state.recordOpponentBid(other);
+                state.updateCash(own, other);
+                state.updateQuantities(ownWon, 2 - ownWon);
+                largeState.recordOpponentBid(other);
+                largeState.updateCash(own, other);
+                largeState.updateQuantities(ownWon, 2 - ownWon);
+            }
+        }
+    }
+
+    @Test
+    void testLargeScaleBidder_PlaysAggressiveInCriticalRounds() {
+        for (long seed = 0; seed < 20; seed++) {
+            LargeScaleBidder bidder = new LargeScaleBidder(seed);
+            bidder.init(10, 100);
+            bidder.bids(1, 0);
+            bidder.bids(0, 45);
+            bidder.bids(0, 45);
+
+            // Two rounds left, both needed, and far more cash than the opponent: Aggressive spends half of
+            // the cash, while the Adaptive spread would stay below 36
+            assertEquals("Aggressive", BiddingStrategyProvider.determineStrategy(bidder.getAuctionState()).getStrategyName());
+            assertEquals(49, bidder.placeBid());
+        }
+    }
+
+    @Test
+    void testLargeScaleBidder_RejectsStrategyWithoutCounterpart() {
+        BiddingStrategy custom = new BiddingStrategy() {
+            @Override
+            public int calculateBid(AuctionState state) {
+                return 1;
+            }
+
+            @Override
+            public String getStrategyName() {
+                return "Custom";
+            }
+        };
+        StrategyRegistry registry = BiddingStrategyProvider.getRegistry();
+        registry.register(custom);
+        try {
+            BiddingStrategyProvider.reloadRules("otherwise use Custom");
+            LargeScaleBidder bidder = new LargeScaleBidder(1);
+            bidder.init(10, 100);
+
+            IllegalStateException e = assertThrows(IllegalStateException.class, bidder::placeBid);
+            assertTrue(e.getMessage().contains("Custom"), e.getMessage());
+        } finally {
+            BiddingStrategyProvider.resetRules();
+            registry.unregister("Custom");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shows that {@link LargeScaleBidder} has flat per-round latency from round 1 to round 10^7.
+ * <p>
+ * Two bidders play one auction of {@code 2 * 10^7} units with trillions of cash against each other.
+ * After a smaller warm-up auction, the rounds are timed in equal windows and the median cost of the
+ * later half of the auction must stay within {@code bench.maxSpread} of the earlier half; any
+ * dependence on history length would make it grow steadily instead.
+ * <p>
+ * Excluded from the default build; run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class LargeScaleBidderBenchmark {
+
+    private final long rounds = Long.getLong("bench.rounds", 10_000_000L);
+    private final int windows = Integer.getInteger("bench.windows", 20);
+    private final double maxSpread = Double.parseDouble(System.getProperty("bench.maxSpread", "2.0"));
+
+    @Test
+    void testPerRoundLatencyIsFlatAcrossMillionsOfRounds() {
+        playAuction(rounds / 10, new double[1]); // JIT warm-up on a separate, smaller auction
+
+        double[] nanosPerRound = new double[windows];
+        LargeScaleBidder bidder = playAuction(rounds, nanosPerRound);
+
+        System.out.println(String.format(Locale.ROOT, "{\"rounds\":%d,\"nanosPerRoundByWindow\":%s}",
+                rounds, Arrays.toString(nanosPerRound)));
+
+        // Growing per-round cost would make later windows systematically slower than earlier ones
+        double early = median(Arrays.copyOfRange(nanosPerRound, 0, windows / 2));
+        double late = median(Arrays.copyOfRange(nanosPerRound, windows / 2, windows));
+        assertTrue(late <= early * maxSpread,
+                "Per-round latency is not flat: early windows " + early + "ns/round, late windows " + late + "ns/round");
+        assertTrue(bidder.getAuctionState().isAuctionOver());
+    }
+
+    private static LargeScaleBidder playAuction(long rounds, double[] nanosPerRoundByWindow) {
+        LargeScaleBidder bidder = new LargeScaleBidder(1);
+        LargeScaleBidder opponent = new LargeScaleBidder(2);
+        bidder.init(2 * rounds, 3_000_000_000_000L);
+        opponent.init(2 * rounds, 3_000_000_000_000L);
+
+        int windows = nanosPerRoundByWindow.length;
+        for (int window = 0; window < windows; window++) {
+            long roundsPerWindow = rounds / windows + (window == windows - 1 ? rounds % windows : 0); // Last window plays the rest
+            long start = System.nanoTime();
+            for (long round = 0; round < roundsPerWindow; round++) {
+                long own = bidder.placeBid();
+                long other = opponent.placeBid();
+                bidder.bids(own, other);
+                opponent.bids(other, own);
+            }
+            nanosPerRoundByWindow[window] = (double) (System.nanoTime() - start) / roundsPerWindow;
+        }
+        return bidder;
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
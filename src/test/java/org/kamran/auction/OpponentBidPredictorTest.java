@@ -0,0 +1,51 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.kamran.opponent.OpponentBidPredictor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpponentBidPredictorTest {
+
+    @Test
+    void testPredict_ColdModelStaysWithinOpponentCash() {
+        AuctionState state = new AuctionState(10, 100);
+        OpponentBidPredictor predictor = state.getOpponentBidPredictor();
+
+        assertFalse(predictor.isWarm());
+        int prediction = predictor.predict(state);
+        assertTrue(prediction >= 0 && prediction <= state.getOpponentCash());
+    }
+
+    @Test
+    void testObserve_LearnsConstantBidder() {
+        AuctionState state = new AuctionState(400, 10_000);
+        for (int round = 0; round < 60; round++) {
+            playRound(state, 0, 40);
+        }
+
+        OpponentBidPredictor predictor = state.getOpponentBidPredictor();
+        assertTrue(predictor.isWarm());
+        assertEquals(60, predictor.getObservationCount());
+        assertEquals(40, predictor.predict(state), 3, "Predictor should converge on a constant bid");
+    }
+
+    @Test
+    void testObserve_TracksOpponentThatSpendsItsBudgetEvenly() {
+        AuctionState state = new AuctionState(200, 10_000);
+        for (int round = 0; round < 60; round++) {
+            int budgetBid = state.getOpponentCash() / state.getRemainingRounds();
+            playRound(state, 0, budgetBid);
+        }
+
+        int expected = state.getOpponentCash() / state.getRemainingRounds();
+        assertEquals(expected, state.getOpponentBidPredictor().predict(state), expected * 0.1 + 2);
+    }
+
+    private static void playRound(AuctionState state, int ownBid, int otherBid) {
+        state.recordOpponentBid(otherBid);
+        state.updateCash(ownBid, otherBid);
+        state.updateQuantities(ownBid > otherBid ? 2 : ownBid == otherBid ? 1 : 0,
+                otherBid > ownBid ? 2 : ownBid == otherBid ? 1 : 0);
+    }
+}
@@ -0,0 +1,163 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kamran.opponent.OpponentProfile;
+import org.kamran.opponent.OpponentProfileStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpponentProfileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testProfile_EstimatesBidFromObservations() {
+        OpponentProfile profile = new OpponentProfile();
+        AuctionState state = new AuctionState(10, 100); // Opponent budget per round: 100 / 5 = 20
+
+        assertTrue(profile.estimateBid(state).isEmpty(), "Fresh profile should have no estimate");
+
+        profile.record(state, 20);
+        profile.record(state, 20);
+
+        assertEquals(2, profile.getObservationCount());
+        int estimate = profile.estimateBid(state).orElseThrow();
+        assertTrue(estimate >= 18 && estimate <= 22, "Estimate should be close to the observed bids, was " + estimate);
+    }
+
+    @Test
+    void testProfile_BinaryRoundTrip() throws Exception {
+        OpponentProfile profile = new OpponentProfile();
+        AuctionState state = new AuctionState(10, 100);
+        profile.record(state, 5);
+        profile.record(state, 300);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        profile.writeTo(new DataOutputStream(bytes));
+        OpponentProfile read = OpponentProfile.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(profile.getObservationCount(), read.getObservationCount());
+        assertEquals(profile.estimateBid(state), read.estimateBid(state));
+    }
+
+    @Test
+    void testStore_SaveMergesAndSurvivesEviction() throws Exception {
+        AuctionState state = new AuctionState(10, 100);
+        OpponentProfile match = new OpponentProfile();
+        match.record(state, 10);
+
+        try (OpponentProfileStore store = new OpponentProfileStore(directory, 1)) {
+            store.save("opponent/a", match).join();
+            store.save("opponent/a", match).join();
+            store.save("opponent-b", match).join(); // Evicts opponent/a from the cache
+
+            assertEquals(2, store.load("opponent/a").join().getObservationCount());
+        }
+
+        try (OpponentProfileStore reopened = new OpponentProfileStore(directory, 4)) {
+            assertEquals(2, reopened.load("opponent/a").join().getObservationCount());
+            assertEquals(0, reopened.load("unknown").join().getObservationCount());
+        }
+    }
+
+    @Test
+    void testStore_CorruptFileStartsCold() throws Exception {
+        Files.writeString(directory.resolve("broken.opp"), "not a profile");
+        try (OpponentProfileStore store = new OpponentProfileStore(directory, 4)) {
+            assertEquals(0, store.load("broken").join().getObservationCount());
+        }
+    }
+
+    @Test
+    void testBidder_WarmStartsFromStoredProfile() {
+        try (OpponentProfileStore store = new OpponentProfileStore(directory, 4)) {
+            KamransBidder first = new KamransBidder("rival", store);
+            first.init(2, 100);
+            first.bids(10, 40);
+        } // Closing waits for the end-of-match save
+
+        try (ObservedStore store = new ObservedStore(directory, false)) {
+            KamransBidder second = new KamransBidder("rival", store);
+            second.init(2, 100);
+            assertEquals(1, store.lastLoad.join().getObservationCount());
+
+            second.placeBid(); // Adopts the loaded profile
+            OpponentProfile adopted = second.getAuctionState().getOpponentProfile();
+            assertEquals(1, adopted.getObservationCount(), "The stored observation must be adopted");
+            assertTrue(adopted.estimateBid(second.getAuctionState()).isPresent());
+        }
+    }
+
+    @Test
+    void testBidder_DoesNotWaitForProfileLoad() {
+        try (ObservedStore store = new ObservedStore(directory, true)) {
+            KamransBidder bidder = new KamransBidder("rival", store);
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                bidder.init(10, 100);
+                int bid = bidder.placeBid();
+                bidder.bids(bid, 5);
+                bidder.placeBid();
+            }, "init and placeBid must not wait for the profile");
+
+            assertFalse(store.lastLoad.isDone());
+            assertEquals(1, bidder.getAuctionState().getOpponentProfile().getObservationCount(),
+                    "The match's own observations are used until the profile arrives");
+        }
+    }
+
+    @Test
+    void testBidder_RejectsMissingOpponentId() {
+        try (OpponentProfileStore store = new OpponentProfileStore(directory, 4)) {
+            assertThrows(NullPointerException.class, () -> new KamransBidder(null, store));
+        }
+    }
+
+    @Test
+    void testBidder_LogsFailedSave() throws Exception {
+        Path notADirectory = Files.createFile(directory.resolve("profiles"));
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(log, true));
+        try (OpponentProfileStore store = new OpponentProfileStore(notADirectory, 4)) {
+            KamransBidder bidder = new KamransBidder("rival", store);
+            bidder.init(2, 100);
+            bidder.bids(10, 40);
+        } finally { // Closing waits for the end-of-match save
+            System.setOut(originalOut);
+        }
+
+        assertTrue(log.toString().contains("Could not save opponent profile for rival"), "Write failure must be reported");
+    }
+
+    /**
+     * Keeps the future of its last load, or hands out loads that never complete.
+     */
+    private static final class ObservedStore extends OpponentProfileStore {
+
+        private final boolean stalled;
+        private volatile CompletableFuture<OpponentProfile> lastLoad;
+
+        ObservedStore(Path directory, boolean stalled) {
+            super(directory, 4);
+            this.stalled = stalled;
+        }
+
+        @Override
+        public CompletableFuture<OpponentProfile> load(String opponentId) {
+            lastLoad = stalled ? new CompletableFuture<>() : super.load(opponentId);
+            return lastLoad;
+        }
+    }
+}
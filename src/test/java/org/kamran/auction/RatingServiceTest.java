@@ -0,0 +1,86 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.kamran.rating.Rating;
+import org.kamran.rating.RatingService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingServiceTest {
+
+    @Test
+    void testAuctionOutcome_MatchesFinalState() {
+        AuctionState state = new AuctionState(4, 100);
+        state.updateQuantities(1, 1);
+        state.updateCash(10, 20);
+        state.updateQuantities(1, 1);
+
+        assertEquals(AuctionOutcome.WON_ON_CASH, AuctionOutcome.of(state));
+        assertEquals(AuctionOutcome.LOST_ON_CASH, AuctionOutcome.of(state).reversed());
+        assertEquals(1.0, AuctionOutcome.of(state).getScore());
+    }
+
+    @Test
+    void testRecordMatch_WinnerRisesAndDeviationShrinks() {
+        RatingService service = new RatingService();
+        for (int i = 0; i < 50; i++) {
+            service.recordMatch("strong", "weak", AuctionOutcome.WON_ON_QUANTITY);
+        }
+
+        Rating strong = service.getRating("strong").orElseThrow();
+        Rating weak = service.getRating("weak").orElseThrow();
+        assertTrue(strong.rating() > RatingService.DEFAULT_RATING);
+        assertTrue(weak.rating() < RatingService.DEFAULT_RATING);
+        assertTrue(strong.deviation() < RatingService.DEFAULT_DEVIATION);
+        assertTrue(strong.lowerBound() < strong.rating() && strong.rating() < strong.upperBound());
+        assertEquals(50, strong.matches());
+        assertEquals(List.of("strong", "weak"), service.leaderboard().stream().map(Rating::playerId).toList());
+    }
+
+    @Test
+    void testRecordMatch_TiesKeepEqualPlayersEqual() {
+        RatingService service = new RatingService();
+        service.recordMatch("a", "b", AuctionOutcome.EXACT_TIE);
+
+        assertEquals(service.getRating("a").orElseThrow().rating(), service.getRating("b").orElseThrow().rating(), 1e-9);
+    }
+
+    @Test
+    void testRecordMatch_ConcurrentResultsAreAllCounted() throws Exception {
+        RatingService service = new RatingService();
+        String[] players = {"p0", "p1", "p2", "p3", "p4"};
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String a = players[(i + offset) % players.length];
+                        String b = players[(i + offset + 1 + i % 3) % players.length];
+                        service.recordMatch(a, b, i % 2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long totalMatches = service.leaderboard().stream().mapToLong(Rating::matches).sum();
+        assertEquals(2 * 4 * 10_000, totalMatches);
+    }
+
+    @Test
+    void testRecordMatch_RejectsSelfPlay() {
+        assertThrows(IllegalArgumentException.class, () -> new RatingService().recordMatch("a", "a", 1));
+    }
+}
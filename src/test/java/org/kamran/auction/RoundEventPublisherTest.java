@@ -0,0 +1,161 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kamran.analytics.OverflowPolicy;
+import org.kamran.analytics.RoundEvent;
+import org.kamran.analytics.RoundEventPublisher;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundEventPublisherTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testBidder_PublishesEveryRoundInBatches() throws Exception {
+        RoundEventPublisher publisher = new RoundEventPublisher(executor, 64, 4, OverflowPolicy.DROP_NEWEST);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE, null);
+        publisher.subscribe(subscriber);
+
+        KamransBidder bidder = new KamransBidder();
+        bidder.setRoundEventPublisher(publisher);
+        bidder.init(10, 100);
+        for (int i = 0; i < 5; i++) {
+            bidder.bids(bidder.placeBid(), 3);
+        }
+        publisher.close();
+
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        List<RoundEvent> events = subscriber.events();
+        assertEquals(5, events.size());
+        assertEquals(1, events.get(0).round());
+        assertEquals(3, events.get(0).opponentBid());
+        assertNotNull(events.get(0).strategyName());
+        assertTrue(subscriber.batches.stream().allMatch(batch -> batch.size() <= 4));
+    }
+
+    @Test
+    void testSlowSubscriber_DoesNotBlockPublisherOrOtherSubscribers() throws Exception {
+        RoundEventPublisher publisher = new RoundEventPublisher(executor, 8, 2, OverflowPolicy.DROP_NEWEST);
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingSubscriber slow = new CollectingSubscriber(Long.MAX_VALUE, release);
+        CollectingSubscriber fast = new CollectingSubscriber(Long.MAX_VALUE, null);
+        publisher.subscribe(slow);
+        publisher.subscribe(fast);
+
+        CompletableFuture<Void> publishing = CompletableFuture.runAsync(() -> {
+            for (int i = 1; i <= 1_000; i++) {
+                publisher.publish(event(i));
+            }
+        });
+        publishing.get(5, TimeUnit.SECONDS); // Would time out if the slow subscriber blocked publish
+
+        release.countDown();
+        publisher.close();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(fast.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(slow.events().size() < 1_000, "Slow subscriber should have lost events to overflow");
+    }
+
+    @Test
+    void testLatestOnly_KeepsNewestEventsWhileSubscriberHasNoDemand() throws Exception {
+        RoundEventPublisher publisher = new RoundEventPublisher(executor, 3, 10, OverflowPolicy.LATEST_ONLY);
+        CollectingSubscriber subscriber = new CollectingSubscriber(0, null);
+        publisher.subscribe(subscriber);
+        assertTrue(subscriber.subscribed.await(5, TimeUnit.SECONDS));
+
+        for (int i = 1; i <= 10; i++) {
+            publisher.publish(event(i));
+        }
+        assertEquals(7, publisher.getDroppedEventCount());
+
+        subscriber.subscription.request(1);
+        publisher.close();
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(8, 9, 10), subscriber.events().stream().map(RoundEvent::round).toList());
+    }
+
+    @Test
+    void testNonPositiveRequest_SignalsError() throws Exception {
+        RoundEventPublisher publisher = new RoundEventPublisher(executor, 4, 4, OverflowPolicy.DROP_NEWEST);
+        CollectingSubscriber subscriber = new CollectingSubscriber(0, null);
+        publisher.subscribe(subscriber);
+        assertTrue(subscriber.subscribed.await(5, TimeUnit.SECONDS));
+
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.failed.await(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    private static RoundEvent event(int round) {
+        return new RoundEvent(round, 1, 0, 2, 0, 99, 100, "Test");
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<List<RoundEvent>> {
+        final List<List<RoundEvent>> batches = new CopyOnWriteArrayList<>();
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch failed = new CountDownLatch(1);
+        private final long initialDemand;
+        private final CountDownLatch gate;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+
+        CollectingSubscriber(long initialDemand, CountDownLatch gate) {
+            this.initialDemand = initialDemand;
+            this.gate = gate;
+        }
+
+        List<RoundEvent> events() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(List<RoundEvent> batch) {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batches.add(batch);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            failed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.kamran.tournament.Participants;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Reports how often speculation serves {@link KamransBidder#placeBid()} and what it does to its latency.
+ * <p>
+ * {@code KamransBidder} plays {@code bench.games} auctions against every tournament participant,
+ * once without and once with a single-threaded speculation executor, and {@code placeBid} is timed
+ * in both runs. The opponent computes its own bid between the two calls, which is the idle time
+ * speculation uses. Per opponent the hit rate, the mean and p99 latency of both runs and the mean
+ * of a run that only takes the snapshot (its task is dropped) are printed. With a spare core, the
+ * overall mean with speculation must stay within {@code bench.maxSlowdown} of the one without; on a
+ * single core the speculation competes with the caller for the CPU, so only the report is produced.
+ * <p>
+ * Excluded from the default build; run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class SpeculationBenchmark {
+
+    private final int games = Integer.getInteger("bench.games", 200);
+    private final double maxSlowdown = Double.parseDouble(System.getProperty("bench.maxSlowdown", "1.5"));
+
+    @Test
+    void testHitRateAndPlaceBidLatencyWithAndWithoutSpeculation() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (String opponent : Participants.names()) { // JIT warm-up
+                play(opponent, games / 4, null);
+                play(opponent, games / 4, executor);
+            }
+
+            double plainTotal = 0;
+            double speculatingTotal = 0;
+            for (String opponent : Participants.names()) {
+                Run plain = play(opponent, games, null);
+                Run speculating = play(opponent, games, executor);
+                Run snapshotOnly = play(opponent, games, task -> { });
+                plainTotal += plain.meanNanos();
+                speculatingTotal += speculating.meanNanos();
+                System.out.println(String.format(Locale.ROOT,
+                        "{\"opponent\":\"%s\",\"games\":%d,\"hitRate\":%.3f,\"plainMeanNanos\":%.0f,\"plainP99Nanos\":%d,"
+                                + "\"speculatingMeanNanos\":%.0f,\"speculatingP99Nanos\":%d,\"snapshotOnlyMeanNanos\":%.0f}",
+                        opponent, games, speculating.hitRate(), plain.meanNanos(), plain.p99Nanos(),
+                        speculating.meanNanos(), speculating.p99Nanos(), snapshotOnly.meanNanos()));
+            }
+
+            assumeTrue(Runtime.getRuntime().availableProcessors() > 1, "Speculation needs a spare core");
+            assertTrue(speculatingTotal <= plainTotal * maxSlowdown,
+                    "Speculation slowed placeBid down: " + plainTotal + "ns without, " + speculatingTotal + "ns with");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Run(double hitRate, double meanNanos, long p99Nanos) {
+    }
+
+    private static Run play(String opponentName, int games, Executor executor) {
+        long[] latencies = new long[games * 50];
+        int count = 0;
+        long hits = 0;
+        long lookups = 0;
+        for (int game = 0; game < games; game++) {
+            KamransBidder bidder = new KamransBidder();
+            bidder.setSpeculationExecutor(executor);
+            Bidder opponent = Participants.create(opponentName, game);
+            bidder.init(100, 1_000);
+            opponent.init(100, 1_000);
+
+            for (int round = 0; round < 50; round++) {
+                long start = System.nanoTime();
+                int own = bidder.placeBid();
+                latencies[count++] = System.nanoTime() - start;
+                int other = opponent.placeBid();
+                bidder.bids(own, other);
+                opponent.bids(other, own);
+            }
+            hits += bidder.getSpeculationHits();
+            lookups += bidder.getSpeculationHits() + bidder.getSpeculationMisses();
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Run(lookups == 0 ? 0 : (double) hits / lookups, Arrays.stream(sorted).average().orElse(0),
+                sorted[(int) Math.ceil(0.99 * sorted.length) - 1]);
+    }
+}
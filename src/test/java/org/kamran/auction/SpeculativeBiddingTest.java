@@ -0,0 +1,127 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kamran.provider.BiddingStrategyProvider;
+import org.kamran.strategy.BiddingStrategy;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpeculativeBiddingTest {
+
+    private KamransBidder bidder;
+
+    @BeforeEach
+    void setUp() {
+        bidder = new KamransBidder();
+        // Runs speculation on the calling thread, so the static mock below applies to it as well
+        bidder.setSpeculationExecutor(Runnable::run);
+    }
+
+    @Test
+    void testTie_NextBidIsServedFromSpeculation() {
+        bidder.init(10, 100);
+        BiddingStrategy mockStrategy = mock(BiddingStrategy.class);
+        when(mockStrategy.getStrategyName()).thenReturn("SpeculationMock");
+        when(mockStrategy.calculateBid(any(AuctionState.class))).thenReturn(7);
+
+        try (MockedStatic<BiddingStrategyProvider> mockedProvider = Mockito.mockStatic(BiddingStrategyProvider.class)) {
+            mockedProvider.when(() -> BiddingStrategyProvider.determineStrategy(any(AuctionState.class)))
+                    .thenReturn(mockStrategy);
+
+            assertEquals(7, bidder.placeBid());
+            bidder.bids(7, 7); // A tie is the speculated outcome
+
+            // The first bid and the speculated tie
+            verify(mockStrategy, times(2)).calculateBid(any(AuctionState.class));
+
+            assertEquals(7, bidder.placeBid());
+            assertEquals(1, bidder.getSpeculationHits());
+            // The second placeBid only looked up the tie speculation, plus speculating one round ahead again
+            verify(mockStrategy, times(3)).calculateBid(any(AuctionState.class));
+        }
+    }
+
+    @Test
+    void testUnexpectedBids_FallBackToRegularComputation() {
+        bidder.init(10, 100);
+        int first = bidder.placeBid();
+        bidder.bids(first + 1, 0); // Harness reports a bid we never placed
+
+        assertEquals(0, bidder.getSpeculationHits());
+        assertEquals(1, bidder.getSpeculationMisses());
+        int next = bidder.placeBid();
+        assertTrue(next >= 0 && next <= 100);
+    }
+
+    @Test
+    void testBackgroundExecutor_PlaysFullAuctionWithinBudget() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            bidder.setSpeculationExecutor(executor);
+            bidder.init(20, 200);
+            int cash = 200;
+            int bid = bidder.placeBid();
+            for (int round = 0; round < 10; round++) {
+                assertTrue(bid >= 0 && bid <= cash);
+                cash -= bid;
+                bid = bidder.bidsAndPlaceNext(bid, bid); // Always tie, so speculation can hit
+            }
+            assertEquals(0, bid, "Auction is over after 10 rounds of 2 QU");
+            // Rounds 2 to 10 each consult the speculation; the bid after the last round needs no strategy
+            assertEquals(9, bidder.getSpeculationHits() + bidder.getSpeculationMisses());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testReloadedRules_DiscardSpeculatedDecision() {
+        bidder.init(10, 100);
+        int first = bidder.placeBid(); // Speculates on a tie under the bundled rules
+
+        try {
+            BiddingStrategyProvider.reloadRules("otherwise use Zero bid");
+            assertEquals(0, bidder.bidsAndPlaceNext(first, first), "The next bid must follow the reloaded rules");
+        } finally {
+            BiddingStrategyProvider.resetRules();
+        }
+        assertEquals(0, bidder.getSpeculationHits());
+        assertEquals(1, bidder.getSpeculationMisses());
+    }
+
+    @Test
+    void testSeededBidder_RejectsSpeculation() {
+        KamransBidder seeded = new KamransBidder(new Random(7));
+        assertThrows(IllegalStateException.class, () -> seeded.setSpeculationExecutor(Runnable::run));
+        assertDoesNotThrow(() -> seeded.setSpeculationExecutor(null));
+
+        KamransBidder replay = new KamransBidder(new Random(7));
+        seeded.init(20, 200);
+        replay.init(20, 200);
+        for (int round = 0; round < 10; round++) {
+            int bid = seeded.placeBid();
+            assertEquals(bid, replay.placeBid(), "Round " + round);
+            seeded.bids(bid, bid);
+            replay.bids(bid, bid);
+        }
+    }
+
+    @Test
+    void testBidsAndPlaceNext_EquivalentToSeparateCalls() {
+        KamransBidder plain = new KamransBidder();
+        plain.init(2, 100);
+        assertEquals(0, plain.bidsAndPlaceNext(10, 5), "Single-round auction is over after the combined call");
+    }
+}
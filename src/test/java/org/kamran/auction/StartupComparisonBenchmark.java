@@ -0,0 +1,88 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares time-to-first-bid and peak RSS of the stdin/stdout bidder on the JVM against the
+ * native executable built with {@code mvn package -Pnative}.
+ * <p>
+ * Each variant is started {@code bench.launches} times. Time-to-first-bid runs from process start
+ * until the reply to {@code BID} arrives; peak RSS is read from {@code /proc/<pid>/status} while
+ * the process is still alive. The native variant is skipped when the executable has not been built.
+ * Results are printed as one JSON line per variant.
+ * <p>
+ * Excluded from the default build; run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class StartupComparisonBenchmark {
+
+    private final int launches = Integer.getInteger("bench.launches", 5);
+    private final Path nativeExecutable = Path.of(System.getProperty("bench.nativeExecutable", "target/auction-bidder"));
+
+    @Test
+    void testTimeToFirstBidAndPeakRss() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        report("jvm", List.of(java, "-cp", System.getProperty("java.class.path"), "org.kamran.cli.BidderMain", "--quiet"));
+
+        if (Files.isExecutable(nativeExecutable)) {
+            report("native", List.of(nativeExecutable.toString(), "--quiet"));
+        } else {
+            System.out.println("Skipping native variant, " + nativeExecutable + " not built (mvn package -Pnative)");
+        }
+    }
+
+    private void report(String variant, List<String> command) throws Exception {
+        double[] millisToFirstBid = new double[launches];
+        long[] peakRssKilobytes = new long[launches];
+        for (int i = 0; i < launches; i++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+            try (BufferedReader replies = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+                 PrintWriter commands = new PrintWriter(process.getOutputStream(), true, StandardCharsets.UTF_8)) {
+                commands.println("INIT 100 1000");
+                commands.println("BID");
+                assertEquals("OK", replies.readLine());
+                int bid = Integer.parseInt(replies.readLine());
+                millisToFirstBid[i] = (System.nanoTime() - start) / 1e6;
+                assertTrue(bid >= 0 && bid <= 1000);
+
+                peakRssKilobytes[i] = peakRssKilobytes(process.pid());
+                commands.println("QUIT");
+                assertEquals("BYE", replies.readLine());
+            }
+            assertEquals(0, process.waitFor());
+        }
+        Arrays.sort(millisToFirstBid);
+        Arrays.sort(peakRssKilobytes);
+        System.out.println(String.format(Locale.ROOT,
+                "{\"variant\":\"%s\",\"launches\":%d,\"medianMillisToFirstBid\":%.1f,\"medianPeakRssKilobytes\":%d}",
+                variant, launches, millisToFirstBid[launches / 2], peakRssKilobytes[launches / 2]));
+    }
+
+    private static long peakRssKilobytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1; // Not on Linux
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmHWM:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+}
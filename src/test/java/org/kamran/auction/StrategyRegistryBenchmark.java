@@ -0,0 +1,113 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.kamran.provider.StrategyRegistry;
+import org.kamran.strategy.AggressiveStrategy;
+import org.kamran.strategy.BiddingStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shows that {@link StrategyRegistry#select(AuctionState)} keeps its throughput while the registry is
+ * reconfigured continuously.
+ * <p>
+ * A selecting thread picks strategies for a fixed set of auction states, once alone and once while
+ * a second thread keeps re-registering a strategy and reloading the bundled rules. Throughput is
+ * measured in selections per CPU second of the selecting thread, so that sharing cores with the
+ * reloading thread does not count against it; it must stay within {@code bench.maxSlowdown}.
+ * <p>
+ * Excluded from the default build; run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class StrategyRegistryBenchmark {
+
+    private final long selections = Long.getLong("bench.selections", 20_000_000L);
+    private final double maxSlowdown = Double.parseDouble(System.getProperty("bench.maxSlowdown", "1.5"));
+
+    @Test
+    void testSelectionThroughputIsUnchangedDuringReloads() throws Exception {
+        String rules = bundledRules();
+        StrategyRegistry registry = StrategyRegistry.discover(rules);
+        AuctionState[] states = states(1_024);
+
+        select(registry, states, selections / 4); // JIT warm-up
+        double idle = select(registry, states, selections);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reloads = new AtomicLong();
+        Thread reloader = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                registry.register(new AggressiveStrategy(new Random(i))); // Re-tuned instance under the same name
+                registry.reloadRules(rules);
+                reloads.incrementAndGet();
+            }
+        });
+        reloader.start();
+        double reloading;
+        try {
+            reloading = select(registry, states, selections);
+        } finally {
+            running.set(false);
+            reloader.join();
+        }
+
+        System.out.println(String.format(Locale.ROOT,
+                "{\"selections\":%d,\"idleSelectionsPerSecond\":%.0f,\"reloadingSelectionsPerSecond\":%.0f,\"reloads\":%d}",
+                selections, idle, reloading, reloads.get()));
+
+        assertTrue(reloads.get() > 0, "The registry was never reloaded");
+        assertTrue(reloading * maxSlowdown >= idle,
+                "Selection slowed down during reloads: " + idle + "/s idle, " + reloading + "/s reloading");
+    }
+
+    /**
+     * @return Selections per CPU second of the calling thread.
+     */
+    private static double select(StrategyRegistry registry, AuctionState[] states, long count) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long checksum = 0;
+        long start = threads.getCurrentThreadCpuTime();
+        for (long i = 0; i < count; i++) {
+            BiddingStrategy strategy = registry.select(states[(int) (i & (states.length - 1))]);
+            checksum += strategy.getStrategyName().length();
+        }
+        long cpuNanos = threads.getCurrentThreadCpuTime() - start;
+        assertTrue(checksum > 0);
+        return count * 1e9 / cpuNanos;
+    }
+
+    private static AuctionState[] states(int count) {
+        Random random = new Random(42);
+        AuctionState[] states = new AuctionState[count];
+        for (int i = 0; i < count; i++) {
+            AuctionState state = new AuctionState(2 * (10 + random.nextInt(200)), 1_000);
+            int rounds = random.nextInt(state.getRemainingQuantity() / 2);
+            for (int round = 0; round < rounds; round++) {
+                int own = random.nextInt(20);
+                int other = random.nextInt(20);
+                state.updateCash(Math.min(own, state.getOwnCash()), Math.min(other, state.getOpponentCash()));
+                state.updateQuantities(own > other ? 2 : own == other ? 1 : 0, own < other ? 2 : own == other ? 1 : 0);
+            }
+            states[i] = state;
+        }
+        return states;
+    }
+
+    private static String bundledRules() throws IOException {
+        try (InputStream in = StrategyRegistry.class.getResourceAsStream("strategy-rules.txt")) {
+            assertNotNull(in);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.kamran.provider.BiddingStrategyProvider;
+import org.kamran.provider.StrategyRegistry;
+import org.kamran.strategy.AdaptiveStrategy;
+import org.kamran.strategy.BiddingStrategy;
+import org.kamran.strategy.ConservativeStrategy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyRegistryTest {
+
+    private record FixedBid(String name, int bid) implements BiddingStrategy {
+        @Override
+        public int calculateBid(AuctionState state) {
+            return bid;
+        }
+
+        @Override
+        public String getStrategyName() {
+            return name;
+        }
+    }
+
+    @Test
+    void testDiscover_FindsBundledStrategies() {
+        StrategyRegistry registry = StrategyRegistry.discover("otherwise use Adaptive");
+
+        assertEquals(Set.of("Zero bid", "Aggressive", "Conservative", "Adaptive"), registry.getStrategyNames());
+        assertInstanceOf(AdaptiveStrategy.class, registry.select(new AuctionState(10, 100)));
+        assertEquals(registry.getStrategyNames(), BiddingStrategyProvider.getRegistry().getStrategyNames());
+    }
+
+    @Test
+    void testConstructor_RejectsDuplicateNamesAndUnknownStrategies() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StrategyRegistry(List.of(new FixedBid("Fixed", 1), new FixedBid("Fixed", 2)), "otherwise use Fixed"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StrategyRegistry(List.of(new FixedBid("Fixed", 1)), "otherwise use Adaptive"));
+    }
+
+    @Test
+    void testRegister_NewStrategyCanBeUsedByReloadedRules() {
+        StrategyRegistry registry = StrategyRegistry.discover("otherwise use Adaptive");
+        AuctionState state = new AuctionState(10, 100);
+        assertThrows(IllegalArgumentException.class, () -> registry.reloadRules("otherwise use Fixed"));
+
+        registry.register(new FixedBid("Fixed", 7));
+        StrategyRegistry.Snapshot snapshot = registry.reloadRules("otherwise use Fixed");
+
+        assertEquals(7, registry.select(state).calculateBid(state));
+        assertEquals(2, snapshot.version(), "One registration and one reload");
+    }
+
+    @Test
+    void testRegister_ReplacementIsPickedUpByCurrentRules() {
+        StrategyRegistry registry = StrategyRegistry.discover("otherwise use Adaptive");
+        registry.register(new FixedBid("Fixed", 7));
+        registry.reloadRules("otherwise use Fixed");
+        AuctionState state = new AuctionState(10, 100);
+
+        registry.register(new FixedBid("Fixed", 9)); // Re-tuned without touching the rules
+
+        assertEquals(9, registry.select(state).calculateBid(state));
+    }
+
+    @Test
+    void testUnregister_RejectedWhileRulesUseTheStrategy() {
+        StrategyRegistry registry = StrategyRegistry.discover("otherwise use Adaptive");
+        StrategyRegistry.Snapshot before = registry.getSnapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> registry.unregister("Adaptive"));
+        assertThrows(IllegalArgumentException.class, () -> registry.unregister("Unknown"));
+        assertSame(before, registry.getSnapshot(), "Rejected changes must not be published");
+
+        registry.unregister("Conservative");
+        assertFalse(registry.getStrategyNames().contains("Conservative"));
+        assertTrue(before.strategies().containsKey("Conservative"), "Published snapshots never change");
+    }
+
+    @Test
+    void testConcurrentChanges_AreNeitherLostNorMixed() throws Exception {
+        StrategyRegistry registry = StrategyRegistry.discover("otherwise use Adaptive");
+        AuctionState state = new AuctionState(10, 100);
+        int registrations = 500;
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread selector = new Thread(() -> {
+            while (running.get()) {
+                BiddingStrategy strategy = registry.select(state);
+                if (!(strategy instanceof AdaptiveStrategy) && !(strategy instanceof ConservativeStrategy)) {
+                    failure.set(new AssertionError("Unexpected strategy " + strategy.getStrategyName()));
+                }
+            }
+        });
+        Thread[] writers = new Thread[2];
+        for (int w = 0; w < writers.length; w++) {
+            int writer = w;
+            writers[w] = new Thread(() -> {
+                for (int i = 0; i < registrations; i++) {
+                    registry.register(new FixedBid("Fixed " + writer + "-" + i, i));
+                    registry.reloadRules(i % 2 == 0 ? "otherwise use Conservative" : "otherwise use Adaptive");
+                }
+            });
+        }
+        selector.start();
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        running.set(false);
+        selector.join();
+
+        assertNull(failure.get());
+        assertEquals(4 + writers.length * registrations, registry.getStrategyNames().size(), "No registration may be lost");
+        assertEquals(2L * writers.length * registrations, registry.getSnapshot().version());
+    }
+}
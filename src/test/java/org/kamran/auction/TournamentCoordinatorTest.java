@@ -0,0 +1,129 @@
+package org.kamran.auction;
+
+import org.junit.jupiter.api.Test;
+import org.kamran.tournament.MatchResult;
+import org.kamran.tournament.MatchRunner;
+import org.kamran.tournament.MatchSpec;
+import org.kamran.tournament.Shard;
+import org.kamran.tournament.TournamentCoordinator;
+import org.kamran.tournament.TournamentProtocol;
+import org.kamran.tournament.TournamentStandings;
+import org.kamran.tournament.TournamentWorker;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentCoordinatorTest {
+
+    private static final List<String> PLAYERS = List.of("Kamran", "Adaptive", "Aggressive", "Conservative", "Zero bid");
+
+    @Test
+    void testSeededMatch_IsDeterministic() {
+        MatchSpec spec = new MatchSpec("Adaptive", "Aggressive", 40, 500, 7);
+
+        MatchResult first = MatchRunner.play(spec);
+        MatchResult second = MatchRunner.play(spec);
+
+        assertEquals(first, second);
+        assertEquals(40, first.quantityA() + first.quantityB());
+    }
+
+    @Test
+    void testSeededKamransBidder_IsDeterministic() {
+        MatchSpec spec = new MatchSpec("Kamran", "Adaptive", 40, 500, 7);
+
+        assertEquals(MatchRunner.play(spec), MatchRunner.play(spec));
+    }
+
+    @Test
+    void testWorkerProcesses_PlayEveryMatchExactlyOnce() throws Exception {
+        List<MatchSpec> matches = MatchSpec.grid(PLAYERS, new int[]{10, 50}, new int[]{100, 1000}, 5);
+        TournamentStandings expected = new TournamentStandings();
+        matches.forEach(spec -> expected.onResult(MatchRunner.play(spec)));
+
+        TournamentStandings standings = new TournamentStandings();
+        try (TournamentCoordinator coordinator = new TournamentCoordinator(matches, 8, standings)) {
+            List<Process> workers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                workers.add(startWorkerProcess(coordinator.getPort(), 2));
+            }
+
+            assertTrue(coordinator.awaitCompletion(Duration.ofSeconds(60)), "Tournament did not complete");
+            for (Process worker : workers) {
+                assertTrue(worker.waitFor(10, TimeUnit.SECONDS), "Worker did not exit");
+                assertEquals(0, worker.exitValue());
+            }
+            assertEquals(coordinator.getShardCount(), coordinator.getCompletedShardCount());
+        }
+
+        assertEquals(matches.size(), standings.getMatchCount());
+        assertEquals(expected.table(), standings.table(), "Distributed results must equal a local run");
+    }
+
+    @Test
+    void testLostShard_IsRetriedOnAnotherWorker() throws Exception {
+        List<MatchSpec> matches = MatchSpec.grid(PLAYERS, new int[]{20}, new int[]{200}, 2);
+        TournamentStandings standings = new TournamentStandings();
+        try (TournamentCoordinator coordinator = new TournamentCoordinator(matches, 6, standings)) {
+            try (Socket socket = new Socket("localhost", coordinator.getPort())) {
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                out.writeByte(TournamentProtocol.REQUEST_WORK);
+                out.flush();
+                assertEquals(TournamentProtocol.SHARD, in.readByte());
+                Shard shard = TournamentProtocol.readShard(in);
+                TournamentProtocol.writeResult(out, shard.id(), 0, MatchRunner.play(shard.matches().get(0)));
+                out.flush();
+            } // Disconnects without finishing the shard
+
+            new TournamentWorker("localhost", coordinator.getPort()).work();
+
+            assertTrue(coordinator.awaitCompletion(Duration.ofSeconds(10)));
+            assertEquals(1, coordinator.getRetriedShardCount());
+        }
+
+        assertEquals(matches.size(), standings.getMatchCount(), "Partial results of the lost shard must not be counted");
+    }
+
+    @Test
+    void testIdleWorker_StealsStalledShard() throws Exception {
+        List<MatchSpec> matches = MatchSpec.grid(PLAYERS, new int[]{20}, new int[]{200}, 1);
+        TournamentStandings standings = new TournamentStandings();
+        try (TournamentCoordinator coordinator = new TournamentCoordinator(matches, matches.size(), standings);
+             Socket stalled = new Socket("localhost", coordinator.getPort())) {
+            DataOutputStream out = new DataOutputStream(stalled.getOutputStream());
+            DataInputStream in = new DataInputStream(stalled.getInputStream());
+            out.writeByte(TournamentProtocol.REQUEST_WORK);
+            out.flush();
+            assertEquals(TournamentProtocol.SHARD, in.readByte()); // Takes the only shard and never answers
+
+            TournamentWorker worker = new TournamentWorker("localhost", coordinator.getPort());
+            worker.work();
+
+            assertTrue(coordinator.awaitCompletion(Duration.ofSeconds(10)));
+            assertEquals(1, coordinator.getStolenShardCount());
+            assertEquals(0, coordinator.getRetriedShardCount());
+            assertEquals(matches.size(), worker.getPlayedMatches());
+        }
+
+        assertEquals(matches.size(), standings.getMatchCount());
+    }
+
+    private static Process startWorkerProcess(int port, int connections) throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String classes = Path.of(TournamentWorker.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        return new ProcessBuilder(java, "-cp", classes, TournamentWorker.class.getName(),
+                "localhost", String.valueOf(port), String.valueOf(connections))
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+}